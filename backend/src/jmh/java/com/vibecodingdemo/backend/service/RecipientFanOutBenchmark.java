@@ -0,0 +1,68 @@
+package com.vibecodingdemo.backend.service;
+
+import com.vibecodingdemo.backend.util.TelegramRecipients;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Recipient splitting and fan-out planning for one message.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RecipientFanOutBenchmark {
+
+    /**
+     * Number of subscribers of the event
+     */
+    @Param({"10", "100", "1000"})
+    public int subscribers;
+
+    /**
+     * Number of additional recipients each subscriber has configured
+     */
+    @Param({"1", "5"})
+    public int recipientsPerSubscriber;
+
+    private final NotificationFanOutPlanner planner = new NotificationFanOutPlanner();
+    private List<NotificationFanOutPlanner.Subscriber> subscriberList;
+    private String recipients;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        subscriberList = new ArrayList<>(subscribers);
+        for (int i = 0; i < subscribers; i++) {
+            StringBuilder userRecipients = new StringBuilder();
+            for (int r = 0; r < recipientsPerSubscriber; r++) {
+                // Every other recipient is one of a few shared team channels
+                String chatId = r % 2 == 0 ? "-100" + (r % 7) : String.valueOf(1_000_000L + i * 10L + r);
+                userRecipients.append(r > 0 ? "; " : "").append(chatId);
+            }
+            subscriberList.add(new NotificationFanOutPlanner.Subscriber(
+                    "user" + i, String.valueOf(500_000L + i), userRecipients.toString()));
+        }
+        recipients = subscriberList.get(0).telegramRecipients();
+    }
+
+    @Benchmark
+    public Set<String> splitRecipients() {
+        return TelegramRecipients.chatIds("123456789", recipients);
+    }
+
+    @Benchmark
+    public NotificationFanOutPlanner.Plan planFanOut() {
+        return planner.plan(subscriberList);
+    }
+}
@@ -0,0 +1,81 @@
+package com.vibecodingdemo.backend.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Message formatting in {@link TelegramBotService}, which runs once per chat and send attempt.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TelegramMessageFormattingBenchmark {
+
+    /**
+     * Size of the payload: number of fields per JSON object, and roughly the length of the
+     * plain text in units of 64 characters
+     */
+    @Param({"4", "32", "256"})
+    public int size;
+
+    private TelegramBotService service;
+    private String jsonMessage;
+    private String plainMessage;
+    private JsonNode jsonNode;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        // Only the ObjectMapper is used by the benchmarked methods
+        service = new TelegramBotService(null);
+
+        StringBuilder json = new StringBuilder("{\"event\":\"deploy\",\"nested\":{");
+        for (int i = 0; i < size; i++) {
+            json.append(i > 0 ? "," : "").append("\"key").append(i).append("\":\"value <").append(i).append("> & co\"");
+        }
+        json.append("},\"tags\":[");
+        for (int i = 0; i < size; i++) {
+            json.append(i > 0 ? "," : "").append("\"tag").append(i).append('"');
+        }
+        jsonMessage = json.append("]}").toString();
+        jsonNode = new ObjectMapper().readTree(jsonMessage);
+
+        // Already-formatted notifications are plain text with HTML markup
+        plainMessage = "🔔 <b>Event Notification</b>\n\n" + "📝 Text with 'quotes' & <tags>. ".repeat(size * 2);
+    }
+
+    @Benchmark
+    public String formatJsonMessage() {
+        return service.formatMessage(jsonMessage);
+    }
+
+    /**
+     * The common case: a preformatted notification that fails the JSON parse attempt
+     */
+    @Benchmark
+    public String formatPlainMessage() {
+        return service.formatMessage(plainMessage);
+    }
+
+    @Benchmark
+    public String formatJsonNode() {
+        StringBuilder sb = new StringBuilder();
+        service.formatJsonNode(jsonNode, sb, "");
+        return sb.toString();
+    }
+
+    @Benchmark
+    public String escapeHtml() {
+        return service.escapeHtml(plainMessage);
+    }
+}
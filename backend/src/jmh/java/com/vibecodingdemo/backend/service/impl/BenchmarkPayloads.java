@@ -0,0 +1,31 @@
+package com.vibecodingdemo.backend.service.impl;
+
+/**
+ * Representative message payloads for the benchmarks.
+ */
+final class BenchmarkPayloads {
+
+    private BenchmarkPayloads() {
+    }
+
+    /**
+     * Build a Kafka message in the format producers send
+     * @param dataFields number of entries in the {@code data} map
+     * @return the JSON payload
+     */
+    static String kafkaMessage(int dataFields) {
+        StringBuilder json = new StringBuilder(256 + dataFields * 48);
+        json.append("{\"event\":\"invoice-overdue\",\"system\":\"Billing\",")
+                .append("\"title\":\"Invoice INV-2024-00042 is overdue\",")
+                .append("\"description\":\"Payment for <Acme & Sons> was due 3 days ago\",")
+                .append("\"message\":\"Please follow up with the customer\",")
+                .append("\"severity\":\"warning\",\"data\":{");
+        for (int i = 0; i < dataFields; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("\"field").append(i).append("\":\"value ").append(i).append(" with <markup> & quotes\"");
+        }
+        return json.append("}}").toString();
+    }
+}
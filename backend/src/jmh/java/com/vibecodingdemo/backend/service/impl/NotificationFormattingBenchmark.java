@@ -0,0 +1,61 @@
+package com.vibecodingdemo.backend.service.impl;
+
+import com.vibecodingdemo.backend.dto.KafkaMessageDTO;
+import com.vibecodingdemo.backend.entity.Event;
+import io.micrometer.observation.ObservationRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing and formatting of an incoming Kafka message, the per-message work done by
+ * {@link KafkaListenerServiceImpl#processMessage} before the fan-out.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NotificationFormattingBenchmark {
+
+    /**
+     * Number of entries in the message's {@code data} map
+     */
+    @Param({"0", "8", "64"})
+    public int dataFields;
+
+    private KafkaListenerServiceImpl service;
+    private String payload;
+    private KafkaMessageDTO parsed;
+    private Event event;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Only the ObjectMapper is used by the benchmarked methods
+        service = new KafkaListenerServiceImpl(null, null, null, null, null, null, null, null, ObservationRegistry.NOOP);
+        payload = BenchmarkPayloads.kafkaMessage(dataFields);
+        parsed = service.parseMessage(payload);
+        event = new Event("Billing", "Invoice overdue", "billing.invoice-overdue", "Invoice is overdue");
+    }
+
+    @Benchmark
+    public KafkaMessageDTO parseMessage() {
+        return service.parseMessage(payload);
+    }
+
+    @Benchmark
+    public String formatMessageForTelegram() {
+        return service.formatMessageForTelegram(parsed, event);
+    }
+
+    @Benchmark
+    public String parseAndFormat() {
+        return service.formatMessageForTelegram(service.parseMessage(payload), event);
+    }
+}
@@ -0,0 +1,56 @@
+package com.vibecodingdemo.backend.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token generation and validation, which run on every login and every authenticated request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtUtilBenchmark {
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        jwtUtil = new JwtUtil();
+        // Normally injected from configuration
+        setField("secretKey", JwtUtil.generateSecureSecret());
+        setField("jwtExpiration", 3_600_000L);
+        setField("refreshExpiration", 604_800_000L);
+        token = jwtUtil.generateToken("benchmark-user");
+    }
+
+    private void setField(String name, Object value) throws ReflectiveOperationException {
+        Field field = JwtUtil.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(jwtUtil, value);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken("benchmark-user");
+    }
+
+    @Benchmark
+    public Boolean validateToken() {
+        return jwtUtil.validateToken(token);
+    }
+
+    @Benchmark
+    public String extractUsername() {
+        return jwtUtil.extractUsername(token);
+    }
+}
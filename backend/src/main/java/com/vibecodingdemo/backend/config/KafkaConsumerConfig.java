@@ -10,8 +10,10 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.*;
+import org.springframework.kafka.listener.ContainerProperties;
 import org.springframework.kafka.listener.DefaultErrorHandler;
 import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
 import org.springframework.kafka.support.ExponentialBackOffWithMaxRetries;
@@ -34,6 +36,12 @@ public class KafkaConsumerConfig {
     @Value("${spring.kafka.consumer.auto-offset-reset}")
     private String autoOffsetReset;
 
+    @Value("${kafka.listener.shutdown-timeout-ms:10000}")
+    private long shutdownTimeoutMs;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
+
     @Bean
     public ConsumerFactory<String, String> consumerFactory() {
         Map<String, Object> configProps = new HashMap<>();
@@ -44,8 +52,8 @@ public class KafkaConsumerConfig {
         configProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
         
         // Additional consumer configurations for reliability
-        configProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, true);
-        configProps.put(ConsumerConfig.AUTO_COMMIT_INTERVAL_MS_CONFIG, 1000);
+        // Offsets are committed by the container once records are processed (see AckMode below)
+        configProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
         configProps.put(ConsumerConfig.SESSION_TIMEOUT_MS_CONFIG, 30000);
         configProps.put(ConsumerConfig.HEARTBEAT_INTERVAL_MS_CONFIG, 10000);
         
@@ -69,7 +77,10 @@ public class KafkaConsumerConfig {
 
     @Bean
     public KafkaTemplate<String, String> kafkaTemplate() {
-        return new KafkaTemplate<>(producerFactory());
+        KafkaTemplate<String, String> kafkaTemplate = new KafkaTemplate<>(producerFactory());
+        // Adds the current trace context to the record headers
+        kafkaTemplate.setObservationEnabled(true);
+        return kafkaTemplate;
     }
 
     @Bean
@@ -84,6 +95,23 @@ public class KafkaConsumerConfig {
         
         // Set concurrency level (number of consumer threads per container)
         factory.setConcurrency(1);
+
+        // Commit after each processed poll batch; on stop, the consumer finishes the
+        // records it has already polled and commits them before closing
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.BATCH);
+        factory.getContainerProperties().setStopImmediate(false);
+        factory.getContainerProperties().setShutdownTimeout(shutdownTimeoutMs);
+
+        // Continues the producer's trace from the record headers; the receive span is the
+        // parent of the notification processing spans
+        factory.getContainerProperties().setObservationEnabled(true);
+
+        // Boot only applies virtual threads to its own auto-configured factory
+        if (virtualThreadsEnabled) {
+            SimpleAsyncTaskExecutor listenerTaskExecutor = new SimpleAsyncTaskExecutor("kafka-listener-");
+            listenerTaskExecutor.setVirtualThreads(true);
+            factory.getContainerProperties().setListenerTaskExecutor(listenerTaskExecutor);
+        }
         
         return factory;
     }
@@ -0,0 +1,56 @@
+package com.vibecodingdemo.backend.config;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.ILoggerFactory;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+
+/**
+ * Publishes the state of the asynchronous log appenders configured in {@code logback-spring.xml}:
+ * {@code logback.events.dropped} (tagged with the appender and the reason, "discarded" or
+ * "queue_full") and {@code logback.queue.remaining} (free queue slots).
+ */
+@Component
+public class LogbackMetricsBinder implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        ILoggerFactory loggerFactory = LoggerFactory.getILoggerFactory();
+        if (!(loggerFactory instanceof LoggerContext loggerContext)) {
+            return;
+        }
+
+        for (Logger logger : loggerContext.getLoggerList()) {
+            Iterator<Appender<ILoggingEvent>> appenders = logger.iteratorForAppenders();
+            while (appenders.hasNext()) {
+                if (appenders.next() instanceof MeteredAsyncAppender appender) {
+                    bind(registry, appender);
+                }
+            }
+        }
+    }
+
+    private void bind(MeterRegistry registry, MeteredAsyncAppender appender) {
+        FunctionCounter.builder("logback.events.dropped", appender, MeteredAsyncAppender::getDiscardedCount)
+                .description("Log events dropped by an asynchronous appender")
+                .tags("appender", appender.getName(), "reason", "discarded")
+                .register(registry);
+        FunctionCounter.builder("logback.events.dropped", appender, MeteredAsyncAppender::getQueueFullCount)
+                .description("Log events dropped by an asynchronous appender")
+                .tags("appender", appender.getName(), "reason", "queue_full")
+                .register(registry);
+        Gauge.builder("logback.queue.remaining", appender, MeteredAsyncAppender::getRemainingCapacity)
+                .description("Free slots in an asynchronous appender's queue")
+                .tag("appender", appender.getName())
+                .register(registry);
+    }
+}
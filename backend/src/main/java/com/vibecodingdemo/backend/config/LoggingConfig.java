@@ -1,109 +1,92 @@
 package com.vibecodingdemo.backend.config;
 
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.web.servlet.HandlerInterceptor;
-import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
-import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.core.Ordered;
 
-import java.util.UUID;
+import java.io.IOException;
 
 @Configuration
-public class LoggingConfig implements WebMvcConfigurer {
+public class LoggingConfig {
 
-    private static final Logger logger = LoggerFactory.getLogger(LoggingConfig.class);
-
-    @Override
-    public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(new LoggingInterceptor());
+    /**
+     * Filter to populate MDC with contextual information for logging. Not named
+     * {@code requestContextFilter}, which is Spring Boot's own RequestContextFilter bean.
+     */
+    @Bean
+    public Filter requestLoggingContextFilter() {
+        return new RequestLoggingContextFilter();
     }
 
     /**
-     * Interceptor to populate MDC with contextual information for logging
+     * Computes the {@link RequestContext} once per request, echoes the request ID in the
+     * {@code X-Request-ID} response header and puts {@code requestId} and {@code userId} in the
+     * MDC for the duration of the request. The request completed line also carries the request's
+     * SQL statement count as {@code sqlQueries}.
+     * <p>
+     * The MDC entries are scoped to the filter call and removed individually afterwards, so the
+     * thread returns to its previous state (keys owned by others, such as the trace ID, are
+     * left alone). Java 21's {@code ScopedValue} is still a preview API; until it is final this
+     * try-with-resources scope gives the same guarantees on virtual and platform threads.
      */
-    public static class LoggingInterceptor implements HandlerInterceptor {
+    private static class RequestLoggingContextFilter implements Filter, Ordered {
+
+        private static final Logger logger = LoggerFactory.getLogger(RequestLoggingContextFilter.class);
 
         private static final String REQUEST_ID_KEY = "requestId";
         private static final String USER_ID_KEY = "userId";
-        private static final String IP_ADDRESS_KEY = "ipAddress";
-        private static final String USER_AGENT_KEY = "userAgent";
-        private static final String REQUEST_METHOD_KEY = "requestMethod";
-        private static final String REQUEST_URI_KEY = "requestUri";
+        private static final String SQL_QUERIES_KEY = "sqlQueries";
 
         @Override
-        public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
-            try {
-                // Generate unique request ID
-                String requestId = UUID.randomUUID().toString();
-                MDC.put(REQUEST_ID_KEY, requestId);
-                
-                // Add request ID to response header for client-side correlation
-                response.setHeader("X-Request-ID", requestId);
+        public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+                throws IOException, ServletException {
+            if (!(request instanceof HttpServletRequest httpRequest)
+                    || !(response instanceof HttpServletResponse httpResponse)) {
+                chain.doFilter(request, response);
+                return;
+            }
 
-                // Get authenticated user ID if available
-                Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-                if (authentication != null && authentication.isAuthenticated() && 
-                    !"anonymousUser".equals(authentication.getName())) {
-                    MDC.put(USER_ID_KEY, authentication.getName());
-                } else {
-                    MDC.put(USER_ID_KEY, "anonymous");
-                }
+            RequestContext context = RequestContext.of(httpRequest);
+            httpRequest.setAttribute(RequestContext.ATTRIBUTE, context);
+            // Add request ID to response header for client-side correlation
+            httpResponse.setHeader(RequestContext.REQUEST_ID_HEADER, context.requestId());
 
-                // Add request details
-                MDC.put(REQUEST_METHOD_KEY, request.getMethod());
-                MDC.put(REQUEST_URI_KEY, request.getRequestURI());
-                MDC.put(IP_ADDRESS_KEY, getClientIpAddress(request));
-                
-                String userAgent = request.getHeader("User-Agent");
-                if (userAgent != null && !userAgent.isEmpty()) {
-                    MDC.put(USER_AGENT_KEY, userAgent);
+            try (MDC.MDCCloseable requestId = MDC.putCloseable(REQUEST_ID_KEY, context.requestId());
+                 MDC.MDCCloseable userId = MDC.putCloseable(USER_ID_KEY, context.userId())) {
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Request started: {} {} from {} ({})", httpRequest.getMethod(),
+                            httpRequest.getRequestURI(), context.clientIp(), context.userAgent());
                 }
 
-                logger.debug("Request started: {} {} from {}", 
-                           request.getMethod(), request.getRequestURI(), getClientIpAddress(request));
-
-            } catch (Exception e) {
-                logger.warn("Failed to populate MDC context", e);
-            }
+                chain.doFilter(request, response);
 
-            return true;
-        }
-
-        @Override
-        public void afterCompletion(HttpServletRequest request, HttpServletResponse response, 
-                                  Object handler, Exception ex) {
-            try {
-                logger.debug("Request completed: {} {} - Status: {}", 
-                           request.getMethod(), request.getRequestURI(), response.getStatus());
-            } catch (Exception e) {
-                logger.warn("Failed to log request completion", e);
-            } finally {
-                // Clean up MDC to prevent memory leaks
-                MDC.clear();
+                // Counted by QueryMetricsConfig, whose filter wraps this one and only reports after it
+                RequestQueryStatistics statistics = RequestQueryStatistics.current();
+                try (MDC.MDCCloseable sqlQueries = MDC.putCloseable(SQL_QUERIES_KEY,
+                        statistics != null ? String.valueOf(statistics.getQueryCount()) : null)) {
+                    logger.debug("Request completed: {} {} - Status: {}",
+                            httpRequest.getMethod(), httpRequest.getRequestURI(), httpResponse.getStatus());
+                }
             }
         }
 
         /**
-         * Extract client IP address from request, considering proxy headers
+         * Right after Spring Security's filter chain, so the authenticated user is known
          */
-        private String getClientIpAddress(HttpServletRequest request) {
-            String xForwardedFor = request.getHeader("X-Forwarded-For");
-            if (xForwardedFor != null && !xForwardedFor.isEmpty() && !"unknown".equalsIgnoreCase(xForwardedFor)) {
-                return xForwardedFor.split(",")[0].trim();
-            }
-            
-            String xRealIp = request.getHeader("X-Real-IP");
-            if (xRealIp != null && !xRealIp.isEmpty() && !"unknown".equalsIgnoreCase(xRealIp)) {
-                return xRealIp;
-            }
-            
-            return request.getRemoteAddr();
+        @Override
+        public int getOrder() {
+            return SecurityProperties.DEFAULT_FILTER_ORDER + 1;
         }
     }
-} 
\ No newline at end of file
+}
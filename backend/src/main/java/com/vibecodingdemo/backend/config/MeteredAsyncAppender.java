@@ -0,0 +1,58 @@
+package com.vibecodingdemo.backend.config;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link AsyncAppender} that counts the events it drops, so that lost log lines show up in
+ * metrics ({@code logback.events.dropped}, see {@link LogbackMetricsBinder}) instead of going
+ * unnoticed.
+ * <p>
+ * Events are dropped in two cases: when the queue is nearly full, TRACE/DEBUG/INFO events are
+ * discarded to leave room for warnings and errors ({@code discardingThreshold}); and with
+ * {@code neverBlock=true}, any event that finds the queue full is dropped instead of blocking
+ * the logging thread. The second count is approximate, as the queue may drain between the
+ * capacity check and the enqueue.
+ */
+public class MeteredAsyncAppender extends AsyncAppender {
+
+    private final LongAdder discarded = new LongAdder();
+    private final LongAdder queueFull = new LongAdder();
+
+    /**
+     * Only called by {@link ch.qos.logback.core.AsyncAppenderBase} when the queue has reached
+     * the discarding threshold, so a discardable event is a discarded one
+     */
+    @Override
+    protected boolean isDiscardable(ILoggingEvent event) {
+        boolean discardable = super.isDiscardable(event);
+        if (discardable) {
+            discarded.increment();
+        }
+        return discardable;
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        if (isNeverBlock() && isStarted() && getRemainingCapacity() == 0 && !super.isDiscardable(event)) {
+            queueFull.increment();
+        }
+        super.append(event);
+    }
+
+    /**
+     * @return the number of low-level events discarded because the queue was nearly full
+     */
+    public long getDiscardedCount() {
+        return discarded.sum();
+    }
+
+    /**
+     * @return the number of events dropped because the queue was full
+     */
+    public long getQueueFullCount() {
+        return queueFull.sum();
+    }
+}
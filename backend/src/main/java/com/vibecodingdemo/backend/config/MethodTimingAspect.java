@@ -0,0 +1,84 @@
+package com.vibecodingdemo.backend.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Times every public method of the {@code @Service} beans and every Spring Data repository call.
+ * <p>
+ * Service calls are recorded as the {@code app.service.duration} timer and repository calls as
+ * {@code app.repository.duration}. Both are tagged with the class, the method and the exception
+ * thrown ("none" on success). Repository calls are tagged with the repository interface, so
+ * inherited methods such as {@code save} are attributed to the repository that was called.
+ * Calls a bean makes to its own methods bypass the proxy and are not timed separately.
+ */
+@Aspect
+@Component
+public class MethodTimingAspect {
+
+    static final String SERVICE_TIMER = "app.service.duration";
+    static final String REPOSITORY_TIMER = "app.repository.duration";
+
+    private static final String REPOSITORY_PACKAGE = "com.vibecodingdemo.backend.repository.";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+
+    @Autowired
+    public MethodTimingAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("@within(org.springframework.stereotype.Service) && execution(public * *(..))")
+    public Object timeServiceMethod(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        return time(joinPoint, SERVICE_TIMER, joinPoint.getTarget().getClass().getSimpleName(), method.getName());
+    }
+
+    @Around("execution(public * org.springframework.data.repository.Repository+.*(..))")
+    public Object timeRepositoryMethod(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        return time(joinPoint, REPOSITORY_TIMER, repositoryName(joinPoint.getThis()), method.getName());
+    }
+
+    private Object time(ProceedingJoinPoint joinPoint, String timerName, String className, String methodName)
+            throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(meterRegistry.timer(timerName,
+                    Tags.of("class", className, "method", methodName, "exception", exception)));
+        }
+    }
+
+    /**
+     * Name of the application repository interface implemented by a repository proxy
+     */
+    private String repositoryName(Object proxy) {
+        return repositoryNames.computeIfAbsent(proxy.getClass(), proxyClass -> {
+            for (Class<?> repositoryInterface : AopProxyUtils.proxiedUserInterfaces(proxy)) {
+                if (repositoryInterface.getName().startsWith(REPOSITORY_PACKAGE)) {
+                    return repositoryInterface.getSimpleName();
+                }
+            }
+            return proxyClass.getSimpleName();
+        });
+    }
+}
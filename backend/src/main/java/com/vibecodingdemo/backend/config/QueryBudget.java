@@ -0,0 +1,32 @@
+package com.vibecodingdemo.backend.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the maximum number of SQL statements an endpoint may execute per request.
+ * <p>
+ * Only statements executed from the start of the handler count; those of the filters before it,
+ * such as the user lookup of JWT authentication, do not. Integration tests checking a budget must
+ * flush and clear their fixtures before the request, or the pending inserts are counted and the
+ * cached entities hide the handler's selects.
+ * <p>
+ * Exceeding the budget is logged and counted in {@code app.request.query.budget.exceeded}. When
+ * {@code query.budget.enforce=true} (as in the test profile) the request fails with a
+ * {@link com.vibecodingdemo.backend.exception.QueryBudgetExceededException}, so that an N+1
+ * regression breaks the integration tests covering the endpoint. On a controller class the
+ * budget applies to all of its handler methods that do not declare their own.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface QueryBudget {
+
+    /**
+     * @return the maximum number of SQL statements executed by the handler per request
+     */
+    int value();
+}
@@ -0,0 +1,38 @@
+package com.vibecodingdemo.backend.config;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Adds the JDBC execution time of a Hibernate session's statements to the
+ * {@link RequestQueryStatistics} of the current request.
+ * <p>
+ * Registered through {@code hibernate.session.events.auto}, so Hibernate creates one instance
+ * per session; an instance is only ever used by one thread at a time.
+ */
+public class QueryCountingSessionListener implements SessionEventListener {
+
+    private long statementStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        RequestQueryStatistics statistics = RequestQueryStatistics.current();
+        if (statistics != null) {
+            statistics.recordExecutionTime(System.nanoTime() - statementStart);
+        }
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        jdbcExecuteStatementEnd();
+    }
+}
@@ -0,0 +1,21 @@
+package com.vibecodingdemo.backend.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts every SQL statement Hibernate prepares into the {@link RequestQueryStatistics} of the
+ * current request. The SQL is returned unchanged.
+ * <p>
+ * Registered through {@code hibernate.session_factory.statement_inspector}.
+ */
+public class QueryCountingStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        RequestQueryStatistics statistics = RequestQueryStatistics.current();
+        if (statistics != null) {
+            statistics.recordStatement(sql);
+        }
+        return sql;
+    }
+}
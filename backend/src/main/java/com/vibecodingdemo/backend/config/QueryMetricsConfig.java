@@ -0,0 +1,194 @@
+package com.vibecodingdemo.backend.config;
+
+import com.vibecodingdemo.backend.exception.QueryBudgetExceededException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records how many SQL statements each endpoint executes, how long they take, and whether the
+ * endpoint stays within its {@link QueryBudget}.
+ * <p>
+ * Per request, {@code app.request.queries} records the statement count and
+ * {@code app.request.query.time} the total JDBC execution time, both tagged with the HTTP method
+ * and the URI template (e.g. {@code /api/events/{id}}). The count is also logged as the
+ * {@code sqlQueries} MDC field of the request completed line of {@link LoggingConfig}, whose filter
+ * runs inside this one, and of the budget and N+1 warnings below. Statements repeated
+ * {@code query.n-plus-one.threshold} times or more within one request are reported as possible
+ * N+1 queries ({@code app.request.n_plus_one}). Global Hibernate statistics (queries, entity
+ * loads, cache hits) are published by Spring Boot under {@code hibernate.*}.
+ */
+@Configuration
+public class QueryMetricsConfig implements WebMvcConfigurer {
+
+    private final MeterRegistry meterRegistry;
+    private final int nPlusOneThreshold;
+    private final boolean enforceBudgets;
+
+    @Autowired
+    public QueryMetricsConfig(MeterRegistry meterRegistry,
+                              @Value("${query.n-plus-one.threshold:5}") int nPlusOneThreshold,
+                              @Value("${query.budget.enforce:false}") boolean enforceBudgets) {
+        this.meterRegistry = meterRegistry;
+        this.nPlusOneThreshold = nPlusOneThreshold;
+        this.enforceBudgets = enforceBudgets;
+    }
+
+    /**
+     * Filter binding {@link RequestQueryStatistics} to the request thread. It runs before Spring
+     * Security, so statements issued during authentication are counted too.
+     */
+    @Bean
+    public Filter queryMetricsFilter() {
+        return new QueryMetricsFilter(meterRegistry, nPlusOneThreshold, enforceBudgets);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new QueryBudgetInterceptor());
+    }
+
+    /**
+     * Interceptor recording the handler's {@link QueryBudget} in the request's statistics, and
+     * the number of statements executed before the handler (e.g. during authentication)
+     */
+    public static class QueryBudgetInterceptor implements HandlerInterceptor {
+
+        @Override
+        public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+            RequestQueryStatistics statistics = RequestQueryStatistics.current();
+            if (statistics != null && handler instanceof HandlerMethod handlerMethod) {
+                QueryBudget budget = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getMethod(), QueryBudget.class);
+                if (budget == null) {
+                    budget = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getBeanType(), QueryBudget.class);
+                }
+                statistics.startHandler(budget != null ? budget.value() : null);
+            }
+            return true;
+        }
+    }
+
+    private static class QueryMetricsFilter implements Filter, Ordered {
+
+        private static final Logger logger = LoggerFactory.getLogger(QueryMetricsFilter.class);
+
+        private static final String SQL_QUERIES_KEY = "sqlQueries";
+        private static final String REQUEST_ID_KEY = "requestId";
+
+        private final MeterRegistry meterRegistry;
+        private final int nPlusOneThreshold;
+        private final boolean enforceBudgets;
+
+        QueryMetricsFilter(MeterRegistry meterRegistry, int nPlusOneThreshold, boolean enforceBudgets) {
+            this.meterRegistry = meterRegistry;
+            this.nPlusOneThreshold = nPlusOneThreshold;
+            this.enforceBudgets = enforceBudgets;
+        }
+
+        @Override
+        public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+                throws IOException, ServletException {
+            if (!(request instanceof HttpServletRequest httpRequest)) {
+                chain.doFilter(request, response);
+                return;
+            }
+
+            RequestQueryStatistics statistics = RequestQueryStatistics.start();
+            boolean completed = false;
+            try {
+                chain.doFilter(request, response);
+                completed = true;
+            } finally {
+                RequestQueryStatistics.clear();
+                report(httpRequest, statistics, completed);
+            }
+        }
+
+        private void report(HttpServletRequest request, RequestQueryStatistics statistics, boolean completed) {
+            String method = request.getMethod();
+            String uri = uriTemplate(request);
+            int queryCount = statistics.getQueryCount();
+
+            DistributionSummary.builder("app.request.queries")
+                    .description("SQL statements executed per HTTP request")
+                    .tag("method", method)
+                    .tag("uri", uri)
+                    .register(meterRegistry)
+                    .record(queryCount);
+            Timer.builder("app.request.query.time")
+                    .description("Total SQL execution time per HTTP request")
+                    .tag("method", method)
+                    .tag("uri", uri)
+                    .register(meterRegistry)
+                    .record(statistics.getQueryNanos(), TimeUnit.NANOSECONDS);
+
+            // The request ID of LoggingConfig is no longer in the MDC here, its filter has returned
+            RequestContext context = (RequestContext) request.getAttribute(RequestContext.ATTRIBUTE);
+            try (MDC.MDCCloseable sqlQueries = MDC.putCloseable(SQL_QUERIES_KEY, String.valueOf(queryCount));
+                 MDC.MDCCloseable requestId = MDC.putCloseable(REQUEST_ID_KEY,
+                         context != null ? context.requestId() : null)) {
+                logger.debug("{} {} executed {} SQL statements in {} ms", method, uri,
+                        queryCount, TimeUnit.NANOSECONDS.toMillis(statistics.getQueryNanos()));
+
+                for (Map.Entry<String, Integer> repeated : statistics.getRepeatedStatements(nPlusOneThreshold).entrySet()) {
+                    meterRegistry.counter("app.request.n_plus_one", "method", method, "uri", uri).increment();
+                    logger.warn("Possible N+1 query in {} {}: executed {} times: {}", method, uri,
+                            repeated.getValue(), repeated.getKey());
+                }
+
+                Integer budget = statistics.getBudget();
+                int handlerQueryCount = statistics.getHandlerQueryCount();
+                if (budget != null && handlerQueryCount > budget) {
+                    meterRegistry.counter("app.request.query.budget.exceeded", "method", method, "uri", uri).increment();
+                    logger.warn("{} {} executed {} SQL statements in its handler, exceeding its query budget of {}",
+                            method, uri, handlerQueryCount, budget);
+                    // Only on success: a failing request already has an exception on its way out
+                    if (enforceBudgets && completed) {
+                        throw new QueryBudgetExceededException(method + " " + uri, budget, handlerQueryCount);
+                    }
+                }
+            }
+        }
+
+        /**
+         * The matched URI template, so that path variables do not create a metric per ID
+         */
+        private String uriTemplate(HttpServletRequest request) {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            return pattern != null ? pattern.toString() : "UNKNOWN";
+        }
+
+        /**
+         * Outside Spring Security's filter chain (order -100)
+         */
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE + 10;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.vibecodingdemo.backend.config;
+
+import com.vibecodingdemo.backend.util.RequestIds;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.MDC;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Logging context of the current HTTP request, computed once per request by
+ * {@link LoggingConfig} and kept as a request attribute.
+ *
+ * @param requestId the incoming {@code X-Request-ID}, the trace ID, or a generated ID
+ * @param userId the authenticated username, or "anonymous"
+ * @param clientIp the client address, honouring {@code X-Forwarded-For} and {@code X-Real-IP}
+ * @param userAgent the {@code User-Agent} header, may be null
+ */
+public record RequestContext(String requestId, String userId, String clientIp, String userAgent) {
+
+    public static final String ATTRIBUTE = RequestContext.class.getName();
+
+    public static final String REQUEST_ID_HEADER = "X-Request-ID";
+
+    private static final String ANONYMOUS = "anonymous";
+
+    /**
+     * Build the context of a request. Must run after authentication for the user to be known.
+     * @param request the request
+     * @return the context
+     */
+    static RequestContext of(HttpServletRequest request) {
+        return new RequestContext(requestId(request), userId(), clientIp(request), request.getHeader("User-Agent"));
+    }
+
+    /**
+     * Get the context of the request handled by the current thread
+     * @return the context, or null outside a request
+     */
+    public static RequestContext current() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes != null
+                ? (RequestContext) attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST)
+                : null;
+    }
+
+    /**
+     * Reuse the caller's ID if it sent one, then the trace ID so that logs and traces share
+     * an ID, and only generate one as a last resort
+     */
+    private static String requestId(HttpServletRequest request) {
+        String requestId = RequestIds.sanitizeIncoming(request.getHeader(REQUEST_ID_HEADER));
+        if (requestId == null) {
+            // Set by Micrometer Tracing while the server observation is in scope
+            requestId = MDC.get("traceId");
+        }
+        if (requestId == null) {
+            requestId = RequestIds.traceIdFromTraceparent(request.getHeader("traceparent"));
+        }
+        return requestId != null ? requestId : RequestIds.generate();
+    }
+
+    private static String userId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !"anonymousUser".equals(authentication.getName())) {
+            return authentication.getName();
+        }
+        return ANONYMOUS;
+    }
+
+    private static String clientIp(HttpServletRequest request) {
+        String xForwardedFor = request.getHeader("X-Forwarded-For");
+        if (xForwardedFor != null && !xForwardedFor.isEmpty() && !"unknown".equalsIgnoreCase(xForwardedFor)) {
+            int comma = xForwardedFor.indexOf(',');
+            return (comma >= 0 ? xForwardedFor.substring(0, comma) : xForwardedFor).trim();
+        }
+
+        String xRealIp = request.getHeader("X-Real-IP");
+        if (xRealIp != null && !xRealIp.isEmpty() && !"unknown".equalsIgnoreCase(xRealIp)) {
+            return xRealIp;
+        }
+
+        return request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,109 @@
+package com.vibecodingdemo.backend.config;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * SQL statements executed while handling the current HTTP request.
+ * <p>
+ * Bound to the request thread by {@link QueryMetricsConfig}. Statements are counted by
+ * {@link QueryCountingStatementInspector} as Hibernate prepares them, and their JDBC execution
+ * time is added by {@link QueryCountingSessionListener}. The endpoint's {@link QueryBudget} only
+ * covers the statements executed from the start of its handler, so that authentication (a user
+ * lookup per JWT request) does not count against every budget. Identical statements are counted
+ * separately to spot N+1 queries: Hibernate binds parameters, so loading the same lazy
+ * association for every row of a list produces the same SQL text each time. Work done outside a
+ * request (Kafka listeners, scheduled tasks) is not counted.
+ */
+public final class RequestQueryStatistics {
+
+    private static final ThreadLocal<RequestQueryStatistics> CURRENT = new ThreadLocal<>();
+
+    private final Map<String, Integer> statementCounts = new HashMap<>();
+    private int queryCount;
+    private long queryNanos;
+    private Integer budget;
+    private int queryCountBeforeHandler;
+
+    private RequestQueryStatistics() {
+    }
+
+    /**
+     * Start counting for the current thread
+     * @return the new statistics
+     */
+    static RequestQueryStatistics start() {
+        RequestQueryStatistics statistics = new RequestQueryStatistics();
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    /**
+     * Stop counting for the current thread
+     */
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * @return the statistics of the current request, or null outside a request
+     */
+    public static RequestQueryStatistics current() {
+        return CURRENT.get();
+    }
+
+    void recordStatement(String sql) {
+        queryCount++;
+        statementCounts.merge(sql, 1, Integer::sum);
+    }
+
+    void recordExecutionTime(long nanos) {
+        queryNanos += nanos;
+    }
+
+    /**
+     * Get the statements executed at least {@code threshold} times, most frequent first
+     * @param threshold the minimum number of executions
+     * @return the SQL text mapped to its execution count
+     */
+    Map<String, Integer> getRepeatedStatements(int threshold) {
+        Map<String, Integer> repeated = new LinkedHashMap<>();
+        statementCounts.entrySet().stream()
+                .filter(entry -> entry.getValue() >= threshold)
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .forEach(entry -> repeated.put(entry.getKey(), entry.getValue()));
+        return repeated;
+    }
+
+    public int getQueryCount() {
+        return queryCount;
+    }
+
+    public long getQueryNanos() {
+        return queryNanos;
+    }
+
+    /**
+     * @return the number of statements executed since the handler started
+     */
+    public int getHandlerQueryCount() {
+        return queryCount - queryCountBeforeHandler;
+    }
+
+    /**
+     * @return the endpoint's {@link QueryBudget}, or null if it declares none
+     */
+    public Integer getBudget() {
+        return budget;
+    }
+
+    /**
+     * Mark the start of the handler: statements executed from now on count against its budget
+     * @param budget the handler's {@link QueryBudget}, or null if it declares none
+     */
+    void startHandler(Integer budget) {
+        this.budget = budget;
+        this.queryCountBeforeHandler = queryCount;
+    }
+}
@@ -0,0 +1,10 @@
+package com.vibecodingdemo.backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+    // Enables @Scheduled methods, e.g. the periodic Kafka listener reconciliation
+}
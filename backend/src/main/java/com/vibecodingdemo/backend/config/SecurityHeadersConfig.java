@@ -1,86 +1,164 @@
 package com.vibecodingdemo.backend.config;
 
+import com.vibecodingdemo.backend.util.PathPrefixTrie;
 import jakarta.servlet.Filter;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.ServletRequest;
 import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import java.io.IOException;
-
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Security and cache headers added to every response.
+ * <p>
+ * The header sets are compiled once at startup: for each route in {@link #ROUTES} and for the
+ * default route, one immutable name/value array without and one with HSTS (sent over HTTPS only).
+ * Per request the filter looks the route up in a {@link PathPrefixTrie} and sets the headers of
+ * one precompiled array.
+ * <p>
+ * Routes not in {@link #ROUTES} get no Cache-Control from this filter. Handlers may set their
+ * own (the event catalog sends {@code private, no-cache} with its ETag), and Spring Security fills
+ * in {@code no-cache, no-store, max-age=0, must-revalidate} for responses that have none.
+ */
 @Configuration
 public class SecurityHeadersConfig {
 
+    private static final String CONTENT_SECURITY_POLICY = String.join("; ",
+            "default-src 'self'",
+            "script-src 'self' 'unsafe-inline' 'unsafe-eval'",
+            "style-src 'self' 'unsafe-inline'",
+            "img-src 'self' data: https:",
+            "font-src 'self' https: data:",
+            "connect-src 'self' https: wss:",
+            "media-src 'self'",
+            "object-src 'none'",
+            "child-src 'none'",
+            "frame-src 'none'",
+            "worker-src 'none'",
+            "frame-ancestors 'none'",
+            "form-action 'self'",
+            "base-uri 'self'");
+
+    private static final String[] BASE_HEADERS = {
+            "Content-Security-Policy", CONTENT_SECURITY_POLICY,
+            "X-Content-Type-Options", "nosniff",
+            "X-Frame-Options", "DENY",
+            // Legacy but still useful for older browsers
+            "X-XSS-Protection", "1; mode=block",
+            "Referrer-Policy", "strict-origin-when-cross-origin",
+            "Permissions-Policy", "camera=(), microphone=(), geolocation=(), interest-cohort=()"
+    };
+
+    /**
+     * Only sent over HTTPS
+     */
+    private static final String[] HSTS_HEADERS = {
+            "Strict-Transport-Security", "max-age=31536000; includeSubDomains; preload"
+    };
+
+    private static final String[] NO_STORE_HEADERS = {
+            "Cache-Control", "no-cache, no-store, must-revalidate",
+            "Pragma", "no-cache",
+            "Expires", "0"
+    };
+
+    /**
+     * Per-route cache policies, matched by longest path prefix
+     */
+    private static final List<RouteHeaders> ROUTES = List.of(
+            // Sensitive endpoints are never stored, whatever the method
+            new RouteHeaders("/api/users", NO_STORE_HEADERS),
+            new RouteHeaders("/api/admin", NO_STORE_HEADERS)
+    );
+
     @Bean
     public Filter securityHeadersFilter() {
-        return new SecurityHeadersFilter();
+        PathPrefixTrie<HeaderPolicy> policies = new PathPrefixTrie<>();
+        for (RouteHeaders route : ROUTES) {
+            policies.put(route.prefix(), HeaderPolicy.compile(route));
+        }
+        return new SecurityHeadersFilter(policies, HeaderPolicy.compile(null));
+    }
+
+    /**
+     * Extra headers of a route
+     *
+     * @param prefix the path prefix
+     * @param headers alternating header names and values
+     */
+    private record RouteHeaders(String prefix, String... headers) {
+    }
+
+    /**
+     * Precompiled headers of a route, one array of alternating names and values per variant
+     */
+    private static final class HeaderPolicy {
+
+        private static final int SECURE = 1;
+
+        private final String[][] variants = new String[2][];
+
+        /**
+         * Compile the header variants of a route
+         * @param route the route, or null for the default headers
+         * @return the policy
+         */
+        static HeaderPolicy compile(RouteHeaders route) {
+            HeaderPolicy policy = new HeaderPolicy();
+            for (int variant = 0; variant < policy.variants.length; variant++) {
+                List<String> headers = new ArrayList<>(List.of(BASE_HEADERS));
+                if ((variant & SECURE) != 0) {
+                    headers.addAll(List.of(HSTS_HEADERS));
+                }
+                if (route != null) {
+                    headers.addAll(List.of(route.headers()));
+                }
+                policy.variants[variant] = headers.toArray(new String[0]);
+            }
+            return policy;
+        }
+
+        /**
+         * Set the headers for a request on its response
+         * @param request the request
+         * @param response the response
+         */
+        void apply(HttpServletRequest request, HttpServletResponse response) {
+            String[] headers = variants["https".equals(request.getScheme()) ? SECURE : 0];
+            for (int i = 0; i < headers.length; i += 2) {
+                response.setHeader(headers[i], headers[i + 1]);
+            }
+        }
     }
 
     private static class SecurityHeadersFilter implements Filter {
 
+        private final PathPrefixTrie<HeaderPolicy> policies;
+        private final HeaderPolicy defaultPolicy;
+
+        SecurityHeadersFilter(PathPrefixTrie<HeaderPolicy> policies, HeaderPolicy defaultPolicy) {
+            this.policies = policies;
+            this.defaultPolicy = defaultPolicy;
+        }
+
         @Override
         public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
                 throws IOException, ServletException {
 
-            if (response instanceof HttpServletResponse) {
-                HttpServletResponse httpResponse = (HttpServletResponse) response;
-
-                // Content Security Policy
-                httpResponse.setHeader("Content-Security-Policy",
-                    "default-src 'self'; " +
-                    "script-src 'self' 'unsafe-inline' 'unsafe-eval'; " +
-                    "style-src 'self' 'unsafe-inline'; " +
-                    "img-src 'self' data: https:; " +
-                    "font-src 'self' https: data:; " +
-                    "connect-src 'self' https: wss:; " +
-                    "media-src 'self'; " +
-                    "object-src 'none'; " +
-                    "child-src 'none'; " +
-                    "frame-src 'none'; " +
-                    "worker-src 'none'; " +
-                    "frame-ancestors 'none'; " +
-                    "form-action 'self'; " +
-                    "base-uri 'self'");
-
-                // X-Content-Type-Options
-                httpResponse.setHeader("X-Content-Type-Options", "nosniff");
-
-                // X-Frame-Options
-                httpResponse.setHeader("X-Frame-Options", "DENY");
-
-                // X-XSS-Protection (legacy but still useful for older browsers)
-                httpResponse.setHeader("X-XSS-Protection", "1; mode=block");
-
-                // Referrer Policy
-                httpResponse.setHeader("Referrer-Policy", "strict-origin-when-cross-origin");
-
-                // Permissions Policy (Feature Policy)
-                httpResponse.setHeader("Permissions-Policy",
-                    "camera=(), " +
-                    "microphone=(), " +
-                    "geolocation=(), " +
-                    "interest-cohort=()");
-
-                // Strict-Transport-Security (only in HTTPS environments)
-                String protocol = request.getScheme();
-                if ("https".equals(protocol)) {
-                    httpResponse.setHeader("Strict-Transport-Security", 
-                        "max-age=31536000; includeSubDomains; preload");
-                }
-
-                // Cache Control for sensitive endpoints
-                String requestURI = ((jakarta.servlet.http.HttpServletRequest) request).getRequestURI();
-                if (requestURI.contains("/api/users/") || requestURI.contains("/api/admin/")) {
-                    httpResponse.setHeader("Cache-Control", "no-cache, no-store, must-revalidate");
-                    httpResponse.setHeader("Pragma", "no-cache");
-                    httpResponse.setHeader("Expires", "0");
-                }
+            if (request instanceof HttpServletRequest httpRequest
+                    && response instanceof HttpServletResponse httpResponse) {
+                policies.findLongestPrefix(httpRequest.getRequestURI(), defaultPolicy)
+                        .apply(httpRequest, httpResponse);
             }
 
             chain.doFilter(request, response);
         }
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,37 @@
+package com.vibecodingdemo.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Executors for blocking outbound work, switched by {@code spring.threads.virtual.enabled}.
+ * <p>
+ * With virtual threads every Telegram delivery gets its own thread and blocking HTTP calls no
+ * longer tie up a pool slot; concurrency is limited by {@code telegram.delivery.max-concurrency}
+ * instead of by the pool size. Tomcat request threads are switched by Spring Boot itself, and the
+ * Kafka container threads in {@link KafkaConsumerConfig}.
+ */
+@Configuration
+public class ThreadingConfig {
+
+    public static final String TELEGRAM_DELIVERY_EXECUTOR = "telegramDeliveryExecutor";
+
+    @Bean(name = TELEGRAM_DELIVERY_EXECUTOR, destroyMethod = "close")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public ExecutorService virtualTelegramDeliveryExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("telegram-delivery-", 0).factory());
+    }
+
+    @Bean(name = TELEGRAM_DELIVERY_EXECUTOR, destroyMethod = "close")
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ExecutorService platformTelegramDeliveryExecutor(
+            @Value("${telegram.delivery.max-concurrency:16}") int maxConcurrency) {
+        return Executors.newFixedThreadPool(maxConcurrency, Thread.ofPlatform().name("telegram-delivery-", 0).daemon().factory());
+    }
+}
@@ -0,0 +1,26 @@
+package com.vibecodingdemo.backend.config;
+
+import io.opentelemetry.exporter.logging.LoggingSpanExporter;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Span exporters for Micrometer Tracing (OpenTelemetry bridge).
+ * <p>
+ * Traces start at the HTTP request or Kafka producer and follow each message through the
+ * record headers into the listener, the notification processing steps and every Telegram send.
+ * Spans are exported over OTLP when {@code management.otlp.tracing.endpoint} is set (Spring
+ * Boot auto-configuration), and logged when {@code tracing.exporter.logging.enabled=true};
+ * both can be active at the same time.
+ */
+@Configuration
+public class TracingConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "tracing.exporter.logging.enabled", havingValue = "true")
+    public SpanExporter loggingSpanExporter() {
+        return LoggingSpanExporter.create();
+    }
+}
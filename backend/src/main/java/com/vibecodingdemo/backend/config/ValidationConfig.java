@@ -1,8 +1,8 @@
 package com.vibecodingdemo.backend.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.filter.HiddenHttpMethodFilter;
 
 import jakarta.servlet.Filter;
 import jakarta.servlet.FilterChain;
@@ -12,60 +12,77 @@ import jakarta.servlet.ServletResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletRequestWrapper;
 import java.io.IOException;
-import java.util.regex.Pattern;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.TreeSet;
 
 @Configuration
 public class ValidationConfig {
 
+    private final Set<String> skippedHeaders;
+    private final String[] excludedPaths;
+
+    public ValidationConfig(@Value("${security.xss.skip-headers:Authorization,Content-Type}") String[] skippedHeaders,
+                            @Value("${security.xss.excluded-paths:/actuator}") String[] excludedPaths) {
+        // Header names are case-insensitive
+        this.skippedHeaders = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        this.skippedHeaders.addAll(Arrays.asList(skippedHeaders));
+        this.excludedPaths = excludedPaths.clone();
+    }
+
     /**
      * Filter to sanitize request parameters and prevent XSS attacks
      */
     @Bean
     public Filter xssProtectionFilter() {
-        return new XSSProtectionFilter();
+        return new XSSProtectionFilter(skippedHeaders, excludedPaths);
     }
 
+    /**
+     * Sanitizes parameters and headers with {@link XssSanitizer} as they are read. Headers in
+     * {@code security.xss.skip-headers} are passed through untouched (encoding would corrupt
+     * e.g. bearer tokens), and requests under {@code security.xss.excluded-paths} are not
+     * wrapped at all. JSON request bodies are never touched; they are validated by the DTOs.
+     */
     private static class XSSProtectionFilter implements Filter {
 
-        private static final Pattern[] XSS_PATTERNS = {
-            // Script fragments
-            Pattern.compile("<script>(.*?)</script>", Pattern.CASE_INSENSITIVE),
-            Pattern.compile("src[\r\n]*=[\r\n]*\\\'(.*?)\\\'", Pattern.CASE_INSENSITIVE | Pattern.MULTILINE | Pattern.DOTALL),
-            Pattern.compile("src[\r\n]*=[\r\n]*\\\"(.*?)\\\"", Pattern.CASE_INSENSITIVE | Pattern.MULTILINE | Pattern.DOTALL),
-            Pattern.compile("</script>", Pattern.CASE_INSENSITIVE),
-            Pattern.compile("<script(.*?)>", Pattern.CASE_INSENSITIVE | Pattern.MULTILINE | Pattern.DOTALL),
-            Pattern.compile("eval\\((.*?)\\)", Pattern.CASE_INSENSITIVE | Pattern.MULTILINE | Pattern.DOTALL),
-            Pattern.compile("expression\\((.*?)\\)", Pattern.CASE_INSENSITIVE | Pattern.MULTILINE | Pattern.DOTALL),
-            Pattern.compile("javascript:", Pattern.CASE_INSENSITIVE),
-            Pattern.compile("vbscript:", Pattern.CASE_INSENSITIVE),
-            Pattern.compile("onload(.*?)=", Pattern.CASE_INSENSITIVE | Pattern.MULTILINE | Pattern.DOTALL),
-            // Event handlers
-            Pattern.compile("on\\w+\\s*=", Pattern.CASE_INSENSITIVE),
-            // HTML tags that can be dangerous
-            Pattern.compile("<iframe", Pattern.CASE_INSENSITIVE),
-            Pattern.compile("<object", Pattern.CASE_INSENSITIVE),
-            Pattern.compile("<embed", Pattern.CASE_INSENSITIVE),
-            Pattern.compile("<link", Pattern.CASE_INSENSITIVE),
-            Pattern.compile("<meta", Pattern.CASE_INSENSITIVE)
-        };
+        private final Set<String> skippedHeaders;
+        private final String[] excludedPaths;
+
+        XSSProtectionFilter(Set<String> skippedHeaders, String[] excludedPaths) {
+            this.skippedHeaders = skippedHeaders;
+            this.excludedPaths = excludedPaths;
+        }
 
         @Override
         public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
                 throws IOException, ServletException {
             
-            if (request instanceof HttpServletRequest) {
-                HttpServletRequest httpRequest = (HttpServletRequest) request;
-                XSSRequestWrapper wrappedRequest = new XSSRequestWrapper(httpRequest);
+            if (request instanceof HttpServletRequest httpRequest && !isExcluded(httpRequest)) {
+                XSSRequestWrapper wrappedRequest = new XSSRequestWrapper(httpRequest, skippedHeaders);
                 chain.doFilter(wrappedRequest, response);
             } else {
                 chain.doFilter(request, response);
             }
         }
 
+        private boolean isExcluded(HttpServletRequest request) {
+            String path = request.getRequestURI();
+            for (String excludedPath : excludedPaths) {
+                if (path.startsWith(excludedPath)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
         private static class XSSRequestWrapper extends HttpServletRequestWrapper {
 
-            public XSSRequestWrapper(HttpServletRequest request) {
+            private final Set<String> skippedHeaders;
+
+            public XSSRequestWrapper(HttpServletRequest request, Set<String> skippedHeaders) {
                 super(request);
+                this.skippedHeaders = skippedHeaders;
             }
 
             @Override
@@ -77,45 +94,21 @@ public class ValidationConfig {
                 
                 String[] sanitizedValues = new String[values.length];
                 for (int i = 0; i < values.length; i++) {
-                    sanitizedValues[i] = sanitizeInput(values[i]);
+                    sanitizedValues[i] = XssSanitizer.sanitize(values[i]);
                 }
                 return sanitizedValues;
             }
 
             @Override
             public String getParameter(String parameter) {
-                String value = super.getParameter(parameter);
-                return value != null ? sanitizeInput(value) : null;
+                return XssSanitizer.sanitize(super.getParameter(parameter));
             }
 
             @Override
             public String getHeader(String name) {
                 String value = super.getHeader(name);
-                return value != null ? sanitizeInput(value) : null;
-            }
-
-            private String sanitizeInput(String value) {
-                if (value == null) {
-                    return null;
-                }
-
-                String sanitized = value;
-                
-                // Remove XSS patterns
-                for (Pattern pattern : XSS_PATTERNS) {
-                    sanitized = pattern.matcher(sanitized).replaceAll("");
-                }
-
-                // HTML encode special characters
-                sanitized = sanitized.replace("&", "&amp;")
-                                   .replace("<", "&lt;")
-                                   .replace(">", "&gt;")
-                                   .replace("\"", "&quot;")
-                                   .replace("'", "&#x27;")
-                                   .replace("/", "&#x2F;");
-
-                return sanitized;
+                return skippedHeaders.contains(name) ? value : XssSanitizer.sanitize(value);
             }
         }
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,86 @@
+package com.vibecodingdemo.backend.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Reports virtual threads that get pinned to their carrier thread, typically by blocking inside
+ * a {@code synchronized} block (older JDBC drivers, Hibernate internals, legacy clients).
+ * <p>
+ * Pinned blocking operations are taken from the JFR {@code jdk.VirtualThreadPinned} event and
+ * recorded as the {@code jvm.threads.virtual.pinned} timer. The offending stack is logged at
+ * DEBUG level.
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 8;
+
+    private final Timer pinnedTimer;
+    private final Duration threshold;
+    private RecordingStream recordingStream;
+
+    @Autowired
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+                                       @Value("${threads.virtual.pinning.threshold-ms:20}") long thresholdMs) {
+        this.pinnedTimer = Timer.builder("jvm.threads.virtual.pinned")
+                .description("Blocking operations that pinned a virtual thread to its carrier")
+                .register(meterRegistry);
+        this.threshold = Duration.ofMillis(thresholdMs);
+    }
+
+    @PostConstruct
+    public void start() {
+        try {
+            recordingStream = new RecordingStream();
+            recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+            recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+            recordingStream.startAsync();
+            logger.info("Monitoring virtual thread pinning (threshold: {} ms)", threshold.toMillis());
+        } catch (Exception e) {
+            // JFR may be unavailable (e.g. disabled in the runtime image); the app works without it
+            logger.warn("Virtual thread pinning monitoring unavailable: {}", e.getMessage());
+            recordingStream = null;
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedTimer.record(event.getDuration());
+        if (logger.isDebugEnabled() && event.getStackTrace() != null) {
+            List<RecordedFrame> frames = event.getStackTrace().getFrames();
+            logger.debug("Virtual thread pinned for {} ms at:\n  {}", event.getDuration().toMillis(),
+                    frames.stream()
+                            .limit(LOGGED_FRAMES)
+                            .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                                    + ":" + frame.getLineNumber())
+                            .collect(Collectors.joining("\n  ")));
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.vibecodingdemo.backend.config;
+
+/**
+ * Single-pass XSS sanitizer for request parameters and headers.
+ * <p>
+ * HTML-significant characters ({@code & < > " ' /}) are entity-encoded, which leaves no markup
+ * that a browser would parse as a tag, so {@code <script>}, {@code <iframe>} etc. need no
+ * separate treatment. Constructs that stay dangerous inside unquoted attributes or URLs are
+ * removed: the {@code javascript:} and {@code vbscript:} schemes, event handler attributes
+ * ({@code onload=}, {@code onclick =}) and {@code eval(} / {@code expression(} calls.
+ * <p>
+ * The input is scanned once; a builder is only allocated when something has to change, so clean
+ * values are returned as they are.
+ */
+final class XssSanitizer {
+
+    private static final String[] REMOVED_TOKENS = {"javascript:", "vbscript:", "eval(", "expression("};
+
+    private XssSanitizer() {
+    }
+
+    /**
+     * Sanitize a value
+     * @param value the raw value, may be null
+     * @return the sanitized value, the same instance if it needed no changes
+     */
+    static String sanitize(String value) {
+        if (value == null) {
+            return null;
+        }
+
+        int length = value.length();
+        StringBuilder sanitized = null;
+        // Start of the input not yet copied to the builder
+        int copied = 0;
+        int i = 0;
+        while (i < length) {
+            char c = value.charAt(i);
+            String replacement = encode(c);
+            int consumed = replacement != null ? 1 : removedLength(value, i, c);
+            if (consumed == 0) {
+                i++;
+                continue;
+            }
+
+            if (sanitized == null) {
+                sanitized = new StringBuilder(length + 16);
+            }
+            sanitized.append(value, copied, i);
+            if (replacement != null) {
+                sanitized.append(replacement);
+            }
+            i += consumed;
+            copied = i;
+        }
+
+        if (sanitized == null) {
+            return value;
+        }
+        return sanitized.append(value, copied, length).toString();
+    }
+
+    private static String encode(char c) {
+        return switch (c) {
+            case '&' -> "&amp;";
+            case '<' -> "&lt;";
+            case '>' -> "&gt;";
+            case '"' -> "&quot;";
+            case '\'' -> "&#x27;";
+            case '/' -> "&#x2F;";
+            default -> null;
+        };
+    }
+
+    /**
+     * Length of the dangerous construct starting at {@code start}, or 0 if there is none
+     */
+    private static int removedLength(String value, int start, char c) {
+        switch (c) {
+            case 'j', 'J', 'v', 'V', 'e', 'E' -> {
+                for (String token : REMOVED_TOKENS) {
+                    if (value.regionMatches(true, start, token, 0, token.length())) {
+                        return token.length();
+                    }
+                }
+                return 0;
+            }
+            case 'o', 'O' -> {
+                return eventHandlerLength(value, start);
+            }
+            default -> {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Length of an {@code on<name>\s*=} event handler starting at {@code start}, or 0. Only
+     * matches at the start of a word, so values such as {@code reason=} are left alone.
+     */
+    private static int eventHandlerLength(String value, int start) {
+        int length = value.length();
+        if (start + 2 >= length
+                || Character.toLowerCase(value.charAt(start + 1)) != 'n'
+                || (start > 0 && isWordChar(value.charAt(start - 1)))) {
+            return 0;
+        }
+
+        int i = start + 2;
+        int nameStart = i;
+        while (i < length && isWordChar(value.charAt(i))) {
+            i++;
+        }
+        if (i == nameStart) {
+            return 0;
+        }
+        while (i < length && Character.isWhitespace(value.charAt(i))) {
+            i++;
+        }
+        return i < length && value.charAt(i) == '=' ? i + 1 - start : 0;
+    }
+
+    private static boolean isWordChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+    }
+}
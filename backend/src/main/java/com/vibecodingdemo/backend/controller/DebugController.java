@@ -197,7 +197,7 @@ public class DebugController {
                 .anyMatch(sub -> sub.getEventId().equals(testEvent.getId()));
 
             if (!alreadySubscribed) {
-                subscriptionService.subscribeToEvent(user.getUsername(), testEvent.getId());
+                subscriptionService.subscribeToEvent(user.getId(), testEvent.getId());
                 logger.info("Subscribed user {} to test event {}", user.getUsername(), testEvent.getEventName());
             } else {
                 logger.info("User {} already subscribed to test event {}", user.getUsername(), testEvent.getEventName());
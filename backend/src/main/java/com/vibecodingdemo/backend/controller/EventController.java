@@ -1,15 +1,28 @@
 package com.vibecodingdemo.backend.controller;
 
+import com.vibecodingdemo.backend.config.QueryBudget;
+import com.vibecodingdemo.backend.dto.CursorPageDTO;
 import com.vibecodingdemo.backend.dto.EventDTO;
+import com.vibecodingdemo.backend.dto.EventImportResultDTO;
 import com.vibecodingdemo.backend.dto.EventResponseDTO;
 import com.vibecodingdemo.backend.exception.ResourceNotFoundException;
+import com.vibecodingdemo.backend.service.EventCatalogCache;
 import com.vibecodingdemo.backend.service.EventService;
+import com.vibecodingdemo.backend.service.EventTransferService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 
@@ -18,20 +31,113 @@ import java.util.Map;
 public class EventController {
 
     private final EventService eventService;
+    private final EventTransferService eventTransferService;
 
     @Autowired
-    public EventController(EventService eventService) {
+    public EventController(EventService eventService, EventTransferService eventTransferService) {
         this.eventService = eventService;
+        this.eventTransferService = eventTransferService;
     }
 
     /**
-     * Get all events
-     * @return List of all events
+     * Get all events, or a single page of events when any paging parameter is given.
+     * The full list is served from the cached catalog snapshot; clients sending a matching
+     * If-None-Match header get a 304 without the catalog being reloaded or re-serialized.
+     * @param ifNoneMatch the ETag of the catalog version held by the client, if any
+     * @param after the ID of the last event of the previous page
+     * @param limit the page size (1-200, default 50)
+     * @param sort the ID sort direction, "asc" (default) or "desc"
+     * @param systemName optional exact system name filter
+     * @param eventNamePrefix optional event name prefix filter
+     * @return the JSON list of all events, 304 Not Modified, or a page of events
      */
     @GetMapping
-    public ResponseEntity<List<EventResponseDTO>> getAllEvents() {
-        List<EventResponseDTO> events = eventService.getAllEvents();
-        return ResponseEntity.ok(events);
+    @QueryBudget(1)
+    public ResponseEntity<?> getAllEvents(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String systemName,
+            @RequestParam(required = false) String eventNamePrefix) {
+        if (after != null || limit != null || sort != null || systemName != null || eventNamePrefix != null) {
+            CursorPageDTO<EventResponseDTO> page =
+                    eventService.getEventsPage(after, limit, sort, systemName, eventNamePrefix);
+            return ResponseEntity.ok(page);
+        }
+
+        EventCatalogCache.Snapshot catalog = eventService.getEventCatalog();
+
+        // Clients must revalidate, but may keep the body and reuse it on 304
+        CacheControl cacheControl = CacheControl.noCache().cachePrivate();
+
+        if (catalog.matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(catalog.getETag())
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .eTag(catalog.getETag())
+                .cacheControl(cacheControl)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(catalog.getJsonBody());
+    }
+
+    /**
+     * Search events by system name, event name, Kafka topic and description
+     * @param q the search text
+     * @param offset the number of results to skip (the nextCursor of the previous page)
+     * @param limit the page size (1-200, default 50)
+     * @return a ranked page of matching events
+     */
+    @GetMapping("/search")
+    public ResponseEntity<CursorPageDTO<EventResponseDTO>> searchEvents(@RequestParam String q,
+                                                                       @RequestParam(required = false) Integer offset,
+                                                                       @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(eventService.searchEvents(q, offset, limit));
+    }
+
+    /**
+     * Import events from newline-delimited JSON, upserting by Kafka topic
+     * @param body the streamed request body, one EventDTO object per line
+     * @return the import summary
+     * @throws IOException if reading the body fails
+     */
+    @PostMapping(value = "/import", consumes = "application/x-ndjson")
+    public ResponseEntity<EventImportResultDTO> importEventsNdjson(InputStream body) throws IOException {
+        return ResponseEntity.ok(eventTransferService.importEvents(body, EventTransferService.Format.NDJSON));
+    }
+
+    /**
+     * Import events from CSV with a header row (systemName, eventName, kafkaTopic, description),
+     * upserting by Kafka topic
+     * @param body the streamed request body
+     * @return the import summary
+     * @throws IOException if reading the body fails
+     */
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<EventImportResultDTO> importEventsCsv(InputStream body) throws IOException {
+        return ResponseEntity.ok(eventTransferService.importEvents(body, EventTransferService.Format.CSV));
+    }
+
+    /**
+     * Export all events, streamed from the database
+     * @param format "ndjson" (default) or "csv"
+     * @return the streamed export
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportEvents(@RequestParam(required = false) String format) {
+        EventTransferService.Format exportFormat = EventTransferService.Format.fromName(format);
+        boolean csv = exportFormat == EventTransferService.Format.CSV;
+
+        StreamingResponseBody body = out -> eventTransferService.exportEvents(out, exportFormat);
+        return ResponseEntity.ok()
+                .contentType(csv ? new MediaType("text", "csv", StandardCharsets.UTF_8) : MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(csv ? "events.csv" : "events.ndjson").build().toString())
+                .body(body);
     }
 
     /**
@@ -40,6 +146,7 @@ public class EventController {
      * @return the event if found
      */
     @GetMapping("/{id}")
+    @QueryBudget(1)
     public ResponseEntity<EventResponseDTO> getEventById(@PathVariable Long id) {
         return eventService.getEventById(id)
                 .map(event -> ResponseEntity.ok(event))
@@ -86,12 +193,23 @@ public class EventController {
     }
 
     /**
-     * Get events by system name
+     * Get events by system name, or a single page of them when any paging parameter is given
      * @param systemName the system name
-     * @return List of events for the given system
+     * @param after the ID of the last event of the previous page
+     * @param limit the page size (1-200, default 50)
+     * @param sort the ID sort direction, "asc" (default) or "desc"
+     * @return List of events for the given system, or a page of them
      */
     @GetMapping("/system/{systemName}")
-    public ResponseEntity<List<EventResponseDTO>> getEventsBySystemName(@PathVariable String systemName) {
+    public ResponseEntity<?> getEventsBySystemName(@PathVariable String systemName,
+                                                   @RequestParam(required = false) Long after,
+                                                   @RequestParam(required = false) Integer limit,
+                                                   @RequestParam(required = false) String sort) {
+        if (after != null || limit != null || sort != null) {
+            CursorPageDTO<EventResponseDTO> page = eventService.getEventsPage(after, limit, sort, systemName, null);
+            return ResponseEntity.ok(page);
+        }
+
         List<EventResponseDTO> events = eventService.getEventsBySystemName(systemName);
         return ResponseEntity.ok(events);
     }
@@ -1,7 +1,13 @@
 package com.vibecodingdemo.backend.controller;
 
+import com.vibecodingdemo.backend.config.QueryBudget;
+import com.vibecodingdemo.backend.dto.CursorPageDTO;
+import com.vibecodingdemo.backend.dto.SubscriptionChangesDTO;
 import com.vibecodingdemo.backend.dto.SubscriptionDTO;
+import com.vibecodingdemo.backend.dto.SubscriptionSetDTO;
+import com.vibecodingdemo.backend.security.SecurityUtils;
 import com.vibecodingdemo.backend.service.SubscriptionService;
+import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -17,18 +23,25 @@ import java.util.Map;
 public class SubscriptionController {
 
     private final SubscriptionService subscriptionService;
+    private final SecurityUtils securityUtils;
 
     @Autowired
-    public SubscriptionController(SubscriptionService subscriptionService) {
+    public SubscriptionController(SubscriptionService subscriptionService, SecurityUtils securityUtils) {
         this.subscriptionService = subscriptionService;
+        this.securityUtils = securityUtils;
     }
 
     /**
-     * Get all subscriptions for the current authenticated user
-     * GET /api/subscriptions
+     * Get all subscriptions for the current authenticated user,
+     * or a single page of them when any paging parameter is given
+     * GET /api/subscriptions?after={id}&limit={n}&sort={asc|desc}&systemName={name}
      */
     @GetMapping
-    public ResponseEntity<?> getUserSubscriptions() {
+    @QueryBudget(2)
+    public ResponseEntity<?> getUserSubscriptions(@RequestParam(required = false) Long after,
+                                                  @RequestParam(required = false) Integer limit,
+                                                  @RequestParam(required = false) String sort,
+                                                  @RequestParam(required = false) String systemName) {
         try {
             // Get the currently authenticated user
             Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
@@ -39,6 +52,13 @@ public class SubscriptionController {
             }
 
             String username = authentication.getName();
+
+            if (after != null || limit != null || sort != null || systemName != null) {
+                CursorPageDTO<SubscriptionDTO> page =
+                    subscriptionService.getUserSubscriptionsPage(username, after, limit, sort, systemName);
+                return ResponseEntity.ok(page);
+            }
+
             List<SubscriptionDTO> subscriptions = subscriptionService.getUserSubscriptions(username);
 
             return ResponseEntity.ok(subscriptions);
@@ -52,6 +72,55 @@ public class SubscriptionController {
         }
     }
 
+    /**
+     * Replace the current authenticated user's subscriptions with the given set of events
+     * PUT /api/subscriptions
+     */
+    @PutMapping
+    public ResponseEntity<?> replaceSubscriptions(@Valid @RequestBody SubscriptionSetDTO request) {
+        try {
+            Long userId = securityUtils.getCurrentUserId().orElse(null);
+            if (userId == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(Map.of("error", "Not authenticated"));
+            }
+
+            List<SubscriptionDTO> subscriptions = subscriptionService.replaceSubscriptions(userId, request.getEventIds());
+
+            return ResponseEntity.ok(subscriptions);
+
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("error", e.getMessage()));
+        }
+        // Custom exceptions (EventNotFoundException) are handled by GlobalExceptionHandler
+    }
+
+    /**
+     * Subscribe the current authenticated user to, and unsubscribe from, several events at once
+     * POST /api/subscriptions/batch
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<?> updateSubscriptions(@Valid @RequestBody SubscriptionChangesDTO request) {
+        try {
+            Long userId = securityUtils.getCurrentUserId().orElse(null);
+            if (userId == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(Map.of("error", "Not authenticated"));
+            }
+
+            List<SubscriptionDTO> subscriptions = subscriptionService.updateSubscriptions(
+                userId, request.getSubscribe(), request.getUnsubscribe());
+
+            return ResponseEntity.ok(subscriptions);
+
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("error", e.getMessage()));
+        }
+        // Custom exceptions (EventNotFoundException) are handled by GlobalExceptionHandler
+    }
+
     /**
      * Subscribe the current authenticated user to an event
      * POST /api/subscriptions/{eventId}
@@ -67,8 +136,13 @@ public class SubscriptionController {
                     .body(Map.of("error", "Not authenticated"));
             }
 
-            String username = authentication.getName();
-            SubscriptionDTO subscription = subscriptionService.subscribeToEvent(username, eventId);
+            Long userId = securityUtils.getCurrentUserId().orElse(null);
+            if (userId == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(Map.of("error", "Not authenticated"));
+            }
+
+            SubscriptionDTO subscription = subscriptionService.subscribeToEvent(userId, eventId);
 
             return ResponseEntity.status(HttpStatus.CREATED).body(subscription);
 
@@ -95,8 +169,13 @@ public class SubscriptionController {
                     .body(Map.of("error", "Not authenticated"));
             }
 
-            String username = authentication.getName();
-            subscriptionService.unsubscribeFromEvent(username, eventId);
+            Long userId = securityUtils.getCurrentUserId().orElse(null);
+            if (userId == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(Map.of("error", "Not authenticated"));
+            }
+
+            subscriptionService.unsubscribeFromEvent(userId, eventId);
 
             return ResponseEntity.noContent().build(); // 204 No Content
 
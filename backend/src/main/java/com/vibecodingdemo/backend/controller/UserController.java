@@ -2,8 +2,10 @@ package com.vibecodingdemo.backend.controller;
 
 import com.vibecodingdemo.backend.entity.User;
 import com.vibecodingdemo.backend.security.SecurityUtils;
+import com.vibecodingdemo.backend.service.RecipientHealthRegistry;
 import com.vibecodingdemo.backend.service.UserService;
 import com.vibecodingdemo.backend.util.JwtUtil;
+import com.vibecodingdemo.backend.util.TelegramRecipients;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
@@ -27,12 +29,15 @@ public class UserController {
     private final UserService userService;
     private final JwtUtil jwtUtil;
     private final SecurityUtils securityUtils;
+    private final RecipientHealthRegistry recipientHealthRegistry;
 
     @Autowired
-    public UserController(UserService userService, JwtUtil jwtUtil, SecurityUtils securityUtils) {
+    public UserController(UserService userService, JwtUtil jwtUtil, SecurityUtils securityUtils,
+                          RecipientHealthRegistry recipientHealthRegistry) {
         this.userService = userService;
         this.jwtUtil = jwtUtil;
         this.securityUtils = securityUtils;
+        this.recipientHealthRegistry = recipientHealthRegistry;
     }
 
     @PostMapping("/login")
@@ -174,6 +179,9 @@ public class UserController {
             response.put("role", user.getRole().toString());
             response.put("createdAt", user.getCreatedAt());
             response.put("updatedAt", user.getUpdatedAt());
+            // Chats that no longer receive notifications because they kept rejecting them
+            response.put("suppressedRecipients", recipientHealthRegistry.getSuppressed(
+                TelegramRecipients.chatIds(user.getTelegramChatId(), user.getTelegramRecipients())));
 
             return ResponseEntity.ok(response);
 
@@ -219,6 +227,38 @@ public class UserController {
         }
     }
 
+    @DeleteMapping("/profile/suppressed-recipients/{chatId}")
+    public ResponseEntity<?> clearSuppressedRecipient(@PathVariable String chatId) {
+        try {
+            // Get the currently authenticated user using SecurityUtils
+            Optional<User> userOpt = securityUtils.getCurrentUser();
+            
+            if (userOpt.isEmpty()) {
+                return ResponseEntity.status(401)
+                    .body(Map.of("error", "Not authenticated"));
+            }
+
+            User user = userOpt.get();
+            
+            // Users may only lift the suppression of their own notification targets
+            if (!TelegramRecipients.chatIds(user.getTelegramChatId(), user.getTelegramRecipients()).contains(chatId)) {
+                return ResponseEntity.status(404)
+                    .body(Map.of("error", "Chat ID is not one of your Telegram recipients"));
+            }
+
+            if (!recipientHealthRegistry.clear(chatId)) {
+                return ResponseEntity.status(404)
+                    .body(Map.of("error", "Chat ID is not suppressed"));
+            }
+
+            return ResponseEntity.ok(Map.of("message", "Telegram recipient suppression lifted"));
+
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                .body(Map.of("error", "Failed to lift Telegram recipient suppression"));
+        }
+    }
+
     @PostMapping("/profile/telegram-activation-code")
     public ResponseEntity<?> generateTelegramActivationCode() {
         try {
@@ -270,6 +310,8 @@ public class UserController {
             
             // Directly activate the bot using username and chatId (bypass code system)
             userService.activateTelegramBotDirect(username, request.getChatId().trim());
+            // Re-activation means the user can be reached again
+            recipientHealthRegistry.clear(request.getChatId().trim());
 
             return ResponseEntity.ok(Map.of("message", "Telegram bot activated successfully"));
 
@@ -0,0 +1,85 @@
+package com.vibecodingdemo.backend.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A single page of a keyset-paginated result.
+ * Clients pass {@code nextCursor} back as the {@code after} parameter to fetch the next page.
+ */
+public class CursorPageDTO<T> {
+
+    private List<T> items;
+    private int limit;
+    private boolean hasMore;
+    private Long nextCursor;
+
+    // Default constructor
+    public CursorPageDTO() {}
+
+    // Constructor with all fields
+    public CursorPageDTO(List<T> items, int limit, boolean hasMore, Long nextCursor) {
+        this.items = items;
+        this.limit = limit;
+        this.hasMore = hasMore;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * Build a page from a result fetched with {@code limit + 1} rows.
+     * The extra row only signals that another page exists and is dropped.
+     * @param fetched the fetched rows, at most {@code limit + 1}
+     * @param limit the requested page size
+     * @param cursorExtractor extracts the cursor value (the keyset column) from a row
+     * @return the page
+     */
+    public static <T> CursorPageDTO<T> fromOverfetched(List<T> fetched, int limit, Function<T, Long> cursorExtractor) {
+        boolean hasMore = fetched.size() > limit;
+        List<T> items = hasMore ? List.copyOf(fetched.subList(0, limit)) : List.copyOf(fetched);
+        Long nextCursor = hasMore ? cursorExtractor.apply(items.get(items.size() - 1)) : null;
+        return new CursorPageDTO<>(items, limit, hasMore, nextCursor);
+    }
+
+    // Getters and Setters
+    public List<T> getItems() {
+        return items;
+    }
+
+    public void setItems(List<T> items) {
+        this.items = items;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public void setLimit(int limit) {
+        this.limit = limit;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+
+    public Long getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(Long nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    @Override
+    public String toString() {
+        return "CursorPageDTO{" +
+                "items=" + (items != null ? items.size() : 0) +
+                ", limit=" + limit +
+                ", hasMore=" + hasMore +
+                ", nextCursor=" + nextCursor +
+                '}';
+    }
+}
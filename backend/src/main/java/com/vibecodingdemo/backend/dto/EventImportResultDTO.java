@@ -0,0 +1,90 @@
+package com.vibecodingdemo.backend.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Summary of a bulk event import.
+ */
+public class EventImportResultDTO {
+    
+    private long received;
+    private long created;
+    private long updated;
+    private long unchanged;
+    private long rejected;
+    private List<String> errors = new ArrayList<>();
+    private boolean errorsTruncated;
+    
+    // Default constructor
+    public EventImportResultDTO() {}
+    
+    // Getters and Setters
+    public long getReceived() {
+        return received;
+    }
+    
+    public void setReceived(long received) {
+        this.received = received;
+    }
+    
+    public long getCreated() {
+        return created;
+    }
+    
+    public void setCreated(long created) {
+        this.created = created;
+    }
+    
+    public long getUpdated() {
+        return updated;
+    }
+    
+    public void setUpdated(long updated) {
+        this.updated = updated;
+    }
+    
+    public long getUnchanged() {
+        return unchanged;
+    }
+    
+    public void setUnchanged(long unchanged) {
+        this.unchanged = unchanged;
+    }
+    
+    public long getRejected() {
+        return rejected;
+    }
+    
+    public void setRejected(long rejected) {
+        this.rejected = rejected;
+    }
+    
+    public List<String> getErrors() {
+        return errors;
+    }
+    
+    public void setErrors(List<String> errors) {
+        this.errors = errors;
+    }
+    
+    public boolean isErrorsTruncated() {
+        return errorsTruncated;
+    }
+    
+    public void setErrorsTruncated(boolean errorsTruncated) {
+        this.errorsTruncated = errorsTruncated;
+    }
+    
+    @Override
+    public String toString() {
+        return "EventImportResultDTO{" +
+                "received=" + received +
+                ", created=" + created +
+                ", updated=" + updated +
+                ", unchanged=" + unchanged +
+                ", rejected=" + rejected +
+                ", errors=" + errors.size() +
+                '}';
+    }
+}
@@ -0,0 +1,56 @@
+package com.vibecodingdemo.backend.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Events to subscribe to and unsubscribe from in one request.
+ * Subscriptions not mentioned are left unchanged.
+ */
+public class SubscriptionChangesDTO {
+    
+    @NotNull(message = "Subscribe list is required")
+    @Size(max = 1000, message = "At most 1000 event IDs can be subscribed at once")
+    private Set<@NotNull Long> subscribe = new LinkedHashSet<>();
+    
+    @NotNull(message = "Unsubscribe list is required")
+    @Size(max = 1000, message = "At most 1000 event IDs can be unsubscribed at once")
+    private Set<@NotNull Long> unsubscribe = new LinkedHashSet<>();
+    
+    // Default constructor
+    public SubscriptionChangesDTO() {}
+    
+    // Constructor with all fields
+    public SubscriptionChangesDTO(Set<Long> subscribe, Set<Long> unsubscribe) {
+        this.subscribe = subscribe;
+        this.unsubscribe = unsubscribe;
+    }
+    
+    // Getters and Setters
+    public Set<Long> getSubscribe() {
+        return subscribe;
+    }
+    
+    public void setSubscribe(Set<Long> subscribe) {
+        this.subscribe = subscribe;
+    }
+    
+    public Set<Long> getUnsubscribe() {
+        return unsubscribe;
+    }
+    
+    public void setUnsubscribe(Set<Long> unsubscribe) {
+        this.unsubscribe = unsubscribe;
+    }
+    
+    @Override
+    public String toString() {
+        return "SubscriptionChangesDTO{" +
+                "subscribe=" + subscribe +
+                ", unsubscribe=" + unsubscribe +
+                '}';
+    }
+}
@@ -0,0 +1,41 @@
+package com.vibecodingdemo.backend.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * The complete set of events a user wants to be subscribed to.
+ */
+public class SubscriptionSetDTO {
+    
+    @NotNull(message = "Event IDs are required")
+    @Size(max = 1000, message = "At most 1000 event IDs are allowed")
+    private Set<@NotNull Long> eventIds = new LinkedHashSet<>();
+    
+    // Default constructor
+    public SubscriptionSetDTO() {}
+    
+    // Constructor with all fields
+    public SubscriptionSetDTO(Set<Long> eventIds) {
+        this.eventIds = eventIds;
+    }
+    
+    // Getters and Setters
+    public Set<Long> getEventIds() {
+        return eventIds;
+    }
+    
+    public void setEventIds(Set<Long> eventIds) {
+        this.eventIds = eventIds;
+    }
+    
+    @Override
+    public String toString() {
+        return "SubscriptionSetDTO{" +
+                "eventIds=" + eventIds +
+                '}';
+    }
+}
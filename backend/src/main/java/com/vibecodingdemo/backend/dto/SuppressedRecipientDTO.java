@@ -0,0 +1,91 @@
+package com.vibecodingdemo.backend.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * A Telegram chat that no longer receives notifications because it kept rejecting them.
+ */
+public class SuppressedRecipientDTO {
+
+    private String chatId;
+    private String errorClass;
+    private int errorCode;
+    private String description;
+    private int consecutiveFailures;
+    private LocalDateTime suppressedAt;
+
+    // Default constructor
+    public SuppressedRecipientDTO() {}
+
+    // Constructor with all fields
+    public SuppressedRecipientDTO(String chatId, String errorClass, int errorCode, String description,
+                                  int consecutiveFailures, LocalDateTime suppressedAt) {
+        this.chatId = chatId;
+        this.errorClass = errorClass;
+        this.errorCode = errorCode;
+        this.description = description;
+        this.consecutiveFailures = consecutiveFailures;
+        this.suppressedAt = suppressedAt;
+    }
+
+    // Getters and Setters
+    public String getChatId() {
+        return chatId;
+    }
+
+    public void setChatId(String chatId) {
+        this.chatId = chatId;
+    }
+
+    public String getErrorClass() {
+        return errorClass;
+    }
+
+    public void setErrorClass(String errorClass) {
+        this.errorClass = errorClass;
+    }
+
+    public int getErrorCode() {
+        return errorCode;
+    }
+
+    public void setErrorCode(int errorCode) {
+        this.errorCode = errorCode;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public int getConsecutiveFailures() {
+        return consecutiveFailures;
+    }
+
+    public void setConsecutiveFailures(int consecutiveFailures) {
+        this.consecutiveFailures = consecutiveFailures;
+    }
+
+    public LocalDateTime getSuppressedAt() {
+        return suppressedAt;
+    }
+
+    public void setSuppressedAt(LocalDateTime suppressedAt) {
+        this.suppressedAt = suppressedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "SuppressedRecipientDTO{" +
+                "chatId='" + chatId + '\'' +
+                ", errorClass='" + errorClass + '\'' +
+                ", errorCode=" + errorCode +
+                ", description='" + description + '\'' +
+                ", consecutiveFailures=" + consecutiveFailures +
+                ", suppressedAt=" + suppressedAt +
+                '}';
+    }
+}
@@ -1,5 +1,6 @@
 package com.vibecodingdemo.backend.entity;
 
+import com.vibecodingdemo.backend.service.EventCatalogEntityListener;
 import jakarta.persistence.*;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
@@ -9,11 +10,16 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "events")
+@Table(name = "events", uniqueConstraints = {
+        // Mirrors the unique index of the V2 migration: a topic maps to exactly one event
+        @UniqueConstraint(name = "uk_events_kafka_topic", columnNames = "kafka_topic")
+})
+@EntityListeners(EventCatalogEntityListener.class)
 public class Event {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "events_seq")
+    @SequenceGenerator(name = "events_seq", sequenceName = "events_seq", allocationSize = 50)
     private Long id;
     
     @Column(name = "system_name", nullable = false)
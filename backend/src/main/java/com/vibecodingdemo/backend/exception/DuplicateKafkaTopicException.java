@@ -0,0 +1,12 @@
+package com.vibecodingdemo.backend.exception;
+
+public class DuplicateKafkaTopicException extends RuntimeException {
+    
+    public DuplicateKafkaTopicException(String message) {
+        super(message);
+    }
+    
+    public DuplicateKafkaTopicException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
\ No newline at end of file
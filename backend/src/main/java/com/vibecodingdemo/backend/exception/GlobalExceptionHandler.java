@@ -1,8 +1,11 @@
 package com.vibecodingdemo.backend.exception;
 
+import com.vibecodingdemo.backend.config.RequestContext;
+import com.vibecodingdemo.backend.util.RequestIds;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -18,7 +21,6 @@ import org.springframework.web.servlet.NoHandlerFoundException;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.UUID;
 
 @ControllerAdvice
 public class GlobalExceptionHandler {
@@ -32,7 +34,9 @@ public class GlobalExceptionHandler {
      * Standardized error response structure
      */
     private Map<String, Object> createErrorResponse(String message, HttpStatus status, String errorCode, WebRequest request) {
-        String requestId = UUID.randomUUID().toString();
+        // Same ID as the X-Request-ID response header and the request's log lines
+        RequestContext context = (RequestContext) request.getAttribute(RequestContext.ATTRIBUTE, WebRequest.SCOPE_REQUEST);
+        String requestId = context != null ? context.requestId() : RequestIds.generate();
         
         Map<String, Object> errorResponse = new HashMap<>();
         errorResponse.put("error", message);
@@ -91,6 +95,32 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
     }
 
+    @ExceptionHandler(DuplicateKafkaTopicException.class)
+    public ResponseEntity<Map<String, Object>> handleDuplicateKafkaTopicException(
+            DuplicateKafkaTopicException ex, WebRequest request) {
+        Map<String, Object> errorResponse = createErrorResponse(
+            ex.getMessage(), HttpStatus.CONFLICT, "DUPLICATE_KAFKA_TOPIC", request);
+        
+        logError("DUPLICATE_KAFKA_TOPIC", ex, request, (String) errorResponse.get("requestId"));
+        
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
+    /**
+     * Unique constraint violations that slipped past the service checks, e.g. two concurrent
+     * creates of the same Kafka topic; the database message is logged but not returned
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<Map<String, Object>> handleDataIntegrityViolationException(
+            DataIntegrityViolationException ex, WebRequest request) {
+        Map<String, Object> errorResponse = createErrorResponse(
+            "The request conflicts with existing data", HttpStatus.CONFLICT, "DATA_INTEGRITY_VIOLATION", request);
+        
+        logError("DATA_INTEGRITY_VIOLATION", ex, request, (String) errorResponse.get("requestId"));
+        
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
     @ExceptionHandler(NotSubscribedException.class)
     public ResponseEntity<Map<String, Object>> handleNotSubscribedException(
             NotSubscribedException ex, WebRequest request) {
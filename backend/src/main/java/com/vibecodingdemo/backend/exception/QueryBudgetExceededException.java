@@ -0,0 +1,26 @@
+package com.vibecodingdemo.backend.exception;
+
+/**
+ * Exception thrown when a request executes more SQL statements than its endpoint's
+ * {@link com.vibecodingdemo.backend.config.QueryBudget} allows and budgets are enforced
+ */
+public class QueryBudgetExceededException extends RuntimeException {
+
+    private final int budget;
+    private final int queryCount;
+
+    public QueryBudgetExceededException(String endpoint, int budget, int queryCount) {
+        super(String.format("%s executed %d SQL statements, exceeding its query budget of %d",
+                endpoint, queryCount, budget));
+        this.budget = budget;
+        this.queryCount = queryCount;
+    }
+
+    public int getBudget() {
+        return budget;
+    }
+
+    public int getQueryCount() {
+        return queryCount;
+    }
+}
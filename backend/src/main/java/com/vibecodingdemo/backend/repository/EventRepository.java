@@ -1,16 +1,23 @@
 package com.vibecodingdemo.backend.repository;
 
 import com.vibecodingdemo.backend.entity.Event;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Repository
-public interface EventRepository extends JpaRepository<Event, Long> {
+public interface EventRepository extends JpaRepository<Event, Long>, EventRepositoryCustom {
     
     /**
      * Find events by system name
@@ -41,4 +48,70 @@ public interface EventRepository extends JpaRepository<Event, Long> {
      */
     @Query("SELECT e FROM Event e WHERE LOWER(e.description) LIKE LOWER(CONCAT('%', :searchText, '%'))")
     List<Event> findByDescriptionContainingIgnoreCase(@Param("searchText") String searchText);
-} 
\ No newline at end of file
+    
+    /**
+     * Keyset page of events with IDs greater than the cursor, in ascending ID order.
+     * Pass {@code PageRequest.of(0, n)} to limit the page size; no count query is issued.
+     * @param afterId exclusive lower bound on the event ID
+     * @param systemName optional exact system name filter (null to disable)
+     * @param eventNamePattern optional LIKE prefix pattern on the event name (null to disable)
+     * @param pageable the page size
+     * @return the events of the page
+     */
+    @Query("SELECT e FROM Event e WHERE e.id > :afterId " +
+           "AND (:systemName IS NULL OR e.systemName = :systemName) " +
+           "AND (:eventNamePattern IS NULL OR e.eventName LIKE :eventNamePattern ESCAPE '!') " +
+           "ORDER BY e.id ASC")
+    List<Event> findPageAfterId(@Param("afterId") long afterId,
+                                @Param("systemName") String systemName,
+                                @Param("eventNamePattern") String eventNamePattern,
+                                Pageable pageable);
+    
+    /**
+     * Keyset page of events with IDs lower than the cursor, in descending ID order.
+     * @param beforeId exclusive upper bound on the event ID
+     * @param systemName optional exact system name filter (null to disable)
+     * @param eventNamePattern optional LIKE prefix pattern on the event name (null to disable)
+     * @param pageable the page size
+     * @return the events of the page
+     */
+    @Query("SELECT e FROM Event e WHERE e.id < :beforeId " +
+           "AND (:systemName IS NULL OR e.systemName = :systemName) " +
+           "AND (:eventNamePattern IS NULL OR e.eventName LIKE :eventNamePattern ESCAPE '!') " +
+           "ORDER BY e.id DESC")
+    List<Event> findPageBeforeId(@Param("beforeId") long beforeId,
+                                 @Param("systemName") String systemName,
+                                 @Param("eventNamePattern") String eventNamePattern,
+                                 Pageable pageable);
+    
+    /**
+     * Find which of the given event IDs exist
+     * @param ids the event IDs to check (must not be empty)
+     * @return the subset of IDs that belong to existing events
+     */
+    @Query("SELECT e.id FROM Event e WHERE e.id IN :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * Find the events for the given Kafka topics
+     * @param kafkaTopics the Kafka topics (must not be empty)
+     * @return the matching events
+     */
+    List<Event> findByKafkaTopicIn(Collection<String> kafkaTopics);
+    
+    /**
+     * Stream all events in ID order without loading them all at once.
+     * Must be consumed inside a transaction and closed after use.
+     * @return a stream over all events
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT e FROM Event e ORDER BY e.id ASC")
+    Stream<Event> streamAllOrderedById();
+    
+    /**
+     * Find the Kafka topics of all events, i.e. the topics that should have a running consumer
+     * @return the configured topics
+     */
+    @Query("SELECT DISTINCT e.kafkaTopic FROM Event e WHERE e.kafkaTopic IS NOT NULL")
+    List<String> findAllKafkaTopics();
+}
@@ -0,0 +1,23 @@
+package com.vibecodingdemo.backend.repository;
+
+import com.vibecodingdemo.backend.entity.Event;
+
+import java.util.List;
+
+/**
+ * Custom event queries that cannot be expressed as portable JPQL.
+ */
+public interface EventRepositoryCustom {
+
+    /**
+     * Ranked search across system name, event name, Kafka topic and description.
+     * On PostgreSQL this uses the {@code search_vector} full-text index and the trigram index,
+     * so it also matches partial words and small typos; other databases fall back to a
+     * case-insensitive substring match.
+     * @param query the user-supplied search text
+     * @param offset the number of ranked results to skip
+     * @param limit the maximum number of results to return
+     * @return the matching events, best match first
+     */
+    List<Event> searchEvents(String query, int offset, int limit);
+}
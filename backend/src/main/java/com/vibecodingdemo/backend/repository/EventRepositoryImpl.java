@@ -0,0 +1,92 @@
+package com.vibecodingdemo.backend.repository;
+
+import com.vibecodingdemo.backend.entity.Event;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Implementation of {@link EventRepositoryCustom}, picked up by Spring Data through the
+ * {@code Impl} suffix.
+ */
+public class EventRepositoryImpl implements EventRepositoryCustom {
+
+    /**
+     * Searchable document; must match the expression of the {@code idx_events_search_trgm}
+     * index in {@code db/migration/V3__event_search.sql}.
+     */
+    static final String SEARCH_DOCUMENT =
+            "(e.system_name || ' ' || e.event_name || ' ' || e.kafka_topic || ' ' || coalesce(e.description, ''))";
+
+    private static final String POSTGRES_SEARCH_SQL =
+            "SELECT e.* FROM events e " +
+            "WHERE e.search_vector @@ websearch_to_tsquery('simple', :query) " +
+            "   OR " + SEARCH_DOCUMENT + " ILIKE :pattern ESCAPE '!' " +
+            "   OR :query <% " + SEARCH_DOCUMENT + " " +
+            "ORDER BY ts_rank_cd(e.search_vector, websearch_to_tsquery('simple', :query)) DESC, " +
+            "         word_similarity(:query, " + SEARCH_DOCUMENT + ") DESC, " +
+            "         e.id ASC";
+
+    // Matches in the event name rank first, then system name, topic and description
+    private static final String FALLBACK_SEARCH_JPQL =
+            "SELECT e FROM Event e " +
+            "WHERE LOWER(e.eventName) LIKE :pattern ESCAPE '!' " +
+            "   OR LOWER(e.systemName) LIKE :pattern ESCAPE '!' " +
+            "   OR LOWER(e.kafkaTopic) LIKE :pattern ESCAPE '!' " +
+            "   OR LOWER(e.description) LIKE :pattern ESCAPE '!' " +
+            "ORDER BY CASE " +
+            "   WHEN LOWER(e.eventName) LIKE :pattern ESCAPE '!' THEN 0 " +
+            "   WHEN LOWER(e.systemName) LIKE :pattern ESCAPE '!' THEN 1 " +
+            "   WHEN LOWER(e.kafkaTopic) LIKE :pattern ESCAPE '!' THEN 2 " +
+            "   ELSE 3 END, e.id ASC";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private volatile Boolean postgres;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Event> searchEvents(String query, int offset, int limit) {
+        String pattern = toContainsPattern(query);
+
+        if (isPostgres()) {
+            return entityManager.createNativeQuery(POSTGRES_SEARCH_SQL, Event.class)
+                    .setParameter("query", query)
+                    .setParameter("pattern", pattern)
+                    .setFirstResult(offset)
+                    .setMaxResults(limit)
+                    .getResultList();
+        }
+
+        return entityManager.createQuery(FALLBACK_SEARCH_JPQL, Event.class)
+                .setParameter("pattern", pattern.toLowerCase(Locale.ROOT))
+                .setFirstResult(offset)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private boolean isPostgres() {
+        Boolean result = postgres;
+        if (result == null) {
+            result = entityManager.getEntityManagerFactory()
+                    .unwrap(SessionFactoryImplementor.class)
+                    .getJdbcServices()
+                    .getDialect() instanceof PostgreSQLDialect;
+            postgres = result;
+        }
+        return result;
+    }
+
+    private static String toContainsPattern(String query) {
+        String escaped = query
+                .replace("!", "!!")
+                .replace("%", "!%")
+                .replace("_", "!_");
+        return "%" + escaped + "%";
+    }
+}
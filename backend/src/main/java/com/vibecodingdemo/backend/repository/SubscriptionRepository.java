@@ -1,16 +1,21 @@
 package com.vibecodingdemo.backend.repository;
 
+import com.vibecodingdemo.backend.dto.SubscriptionDTO;
 import com.vibecodingdemo.backend.entity.Subscription;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
-public interface SubscriptionRepository extends JpaRepository<Subscription, Long> {
+public interface SubscriptionRepository extends JpaRepository<Subscription, Long>, SubscriptionRepositoryCustom {
     
     /**
      * Find a subscription by user ID and event ID
@@ -87,4 +92,102 @@ public interface SubscriptionRepository extends JpaRepository<Subscription, Long
      */
     @Query("SELECT COUNT(DISTINCT s.user.id) FROM Subscription s")
     long countDistinctUsers();
-} 
\ No newline at end of file
+    
+    /**
+     * Select clause projecting subscriptions (joined with their event) straight into
+     * {@link SubscriptionDTO} rows, so no entities are loaded or lazily initialized.
+     */
+    String SUBSCRIPTION_DTO_SELECT =
+            "SELECT new com.vibecodingdemo.backend.dto.SubscriptionDTO(s.id, e.id, e.eventName, e.systemName, true) " +
+            "FROM Subscription s JOIN s.event e ";
+    
+    /**
+     * Find all subscriptions of a user as DTOs, in a single query
+     * @param username the username
+     * @return the user's subscriptions, in ascending ID order
+     */
+    @Query(SUBSCRIPTION_DTO_SELECT +
+           "WHERE s.user.username = :username " +
+           "ORDER BY s.id ASC")
+    List<SubscriptionDTO> findDTOsByUsername(@Param("username") String username);
+    
+    /**
+     * Keyset page of a user's subscriptions with IDs greater than the cursor, in ascending ID order.
+     * @param username the username
+     * @param afterId exclusive lower bound on the subscription ID
+     * @param systemName optional exact system name filter on the event (null to disable)
+     * @param pageable the page size
+     * @return the subscriptions of the page as DTOs
+     */
+    @Query(SUBSCRIPTION_DTO_SELECT +
+           "WHERE s.user.username = :username AND s.id > :afterId " +
+           "AND (:systemName IS NULL OR e.systemName = :systemName) " +
+           "ORDER BY s.id ASC")
+    List<SubscriptionDTO> findPageByUsernameAfterId(@Param("username") String username,
+                                                    @Param("afterId") long afterId,
+                                                    @Param("systemName") String systemName,
+                                                    Pageable pageable);
+    
+    /**
+     * Keyset page of a user's subscriptions with IDs lower than the cursor, in descending ID order.
+     * @param username the username
+     * @param beforeId exclusive upper bound on the subscription ID
+     * @param systemName optional exact system name filter on the event (null to disable)
+     * @param pageable the page size
+     * @return the subscriptions of the page as DTOs
+     */
+    @Query(SUBSCRIPTION_DTO_SELECT +
+           "WHERE s.user.username = :username AND s.id < :beforeId " +
+           "AND (:systemName IS NULL OR e.systemName = :systemName) " +
+           "ORDER BY s.id DESC")
+    List<SubscriptionDTO> findPageByUsernameBeforeId(@Param("username") String username,
+                                                     @Param("beforeId") long beforeId,
+                                                     @Param("systemName") String systemName,
+                                                     Pageable pageable);
+    
+    /**
+     * Delete a user's subscription to an event in a single statement
+     * @param userId the user ID
+     * @param eventId the event ID
+     * @return the number of deleted subscriptions (0 or 1)
+     */
+    @Modifying
+    @Query("DELETE FROM Subscription s WHERE s.user.id = :userId AND s.event.id = :eventId")
+    int deleteByUserIdAndEventId(@Param("userId") Long userId, @Param("eventId") Long eventId);
+    
+    /**
+     * Find all subscriptions of a user as DTOs, in a single query
+     * @param userId the user ID
+     * @return the user's subscriptions, in ascending ID order
+     */
+    @Query(SUBSCRIPTION_DTO_SELECT +
+           "WHERE s.user.id = :userId " +
+           "ORDER BY s.id ASC")
+    List<SubscriptionDTO> findDTOsByUserId(@Param("userId") Long userId);
+    
+    /**
+     * Find the IDs of all events a user is subscribed to, without loading subscriptions
+     * @param userId the user ID
+     * @return the subscribed event IDs
+     */
+    @Query("SELECT s.event.id FROM Subscription s WHERE s.user.id = :userId")
+    Set<Long> findEventIdsByUserId(@Param("userId") Long userId);
+    
+    /**
+     * Delete a user's subscriptions to the given events in a single statement
+     * @param userId the user ID
+     * @param eventIds the event IDs to unsubscribe from (must not be empty)
+     * @return the number of deleted subscriptions
+     */
+    @Modifying
+    @Query("DELETE FROM Subscription s WHERE s.user.id = :userId AND s.event.id IN :eventIds")
+    int deleteByUserIdAndEventIdIn(@Param("userId") Long userId, @Param("eventIds") Collection<Long> eventIds);
+    
+    /**
+     * Check if a user, identified by username, is subscribed to an event
+     * @param username the username
+     * @param eventId the event ID
+     * @return true if the subscription exists
+     */
+    boolean existsByUserUsernameAndEventId(String username, Long eventId);
+}
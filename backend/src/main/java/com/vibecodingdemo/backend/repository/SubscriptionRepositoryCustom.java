@@ -0,0 +1,32 @@
+package com.vibecodingdemo.backend.repository;
+
+import com.vibecodingdemo.backend.dto.SubscriptionDTO;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Custom subscription writes that cannot be expressed as portable JPQL.
+ */
+public interface SubscriptionRepositoryCustom {
+
+    /**
+     * Insert a subscription unless it already exists, in a single statement.
+     * Concurrent duplicate requests cannot both succeed: the unique (user_id, event_id)
+     * constraint decides which one inserts.
+     * @param userId the subscribing user's ID
+     * @param eventId the event ID
+     * @return the created subscription, or empty if the user was already subscribed
+     * @throws org.springframework.dao.DataIntegrityViolationException if the user or event does not exist
+     */
+    Optional<SubscriptionDTO> insertIfAbsent(Long userId, Long eventId);
+
+    /**
+     * Insert subscriptions of one user to many events using JDBC batches.
+     * @param userId the subscribing user's ID
+     * @param eventIds the event IDs to subscribe to (none of them may be subscribed yet)
+     * @throws org.springframework.dao.DataIntegrityViolationException if an event does not exist
+     *         or a subscription already exists
+     */
+    void batchInsert(Long userId, Collection<Long> eventIds);
+}
@@ -0,0 +1,130 @@
+package com.vibecodingdemo.backend.repository;
+
+import com.vibecodingdemo.backend.dto.SubscriptionDTO;
+import com.vibecodingdemo.backend.entity.Event;
+import com.vibecodingdemo.backend.entity.Subscription;
+import com.vibecodingdemo.backend.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceException;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.exception.ConstraintViolationException;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Implementation of {@link SubscriptionRepositoryCustom}, picked up by Spring Data through the
+ * {@code Impl} suffix.
+ */
+public class SubscriptionRepositoryImpl implements SubscriptionRepositoryCustom {
+
+    // Inserts and reads back the event columns in one round-trip; a duplicate yields no row.
+    // The id comes from the column default, nextval('subscriptions_seq').
+    private static final String POSTGRES_INSERT_SQL =
+            "WITH inserted AS (" +
+            "    INSERT INTO subscriptions (user_id, event_id, created_at) " +
+            "    VALUES (:userId, :eventId, LOCALTIMESTAMP) " +
+            "    ON CONFLICT (user_id, event_id) DO NOTHING " +
+            "    RETURNING id, event_id" +
+            ") " +
+            "SELECT i.id, e.id AS event_id, e.event_name, e.system_name " +
+            "FROM inserted i JOIN events e ON e.id = i.event_id";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private volatile Boolean postgres;
+
+    @Override
+    public Optional<SubscriptionDTO> insertIfAbsent(Long userId, Long eventId) {
+        if (isPostgres()) {
+            return insertOnConflictDoNothing(userId, eventId);
+        }
+        return persistUnlessDuplicate(userId, eventId);
+    }
+
+    @Override
+    public void batchInsert(Long userId, Collection<Long> eventIds) {
+        if (eventIds.isEmpty()) {
+            return;
+        }
+
+        // Ids come from a pooled sequence, so the flush sends hibernate.jdbc.batch_size
+        // rows per JDBC batch; references avoid selecting the user or the events
+        User user = entityManager.getReference(User.class, userId);
+        List<Subscription> subscriptions = eventIds.stream()
+                .map(eventId -> new Subscription(user, entityManager.getReference(Event.class, eventId)))
+                .toList();
+        subscriptions.forEach(entityManager::persist);
+        entityManager.flush();
+        subscriptions.forEach(entityManager::detach);
+    }
+
+    private Optional<SubscriptionDTO> insertOnConflictDoNothing(Long userId, Long eventId) {
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = entityManager.createNativeQuery(POSTGRES_INSERT_SQL)
+                .setParameter("userId", userId)
+                .setParameter("eventId", eventId)
+                .getResultList();
+
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Object[] row = rows.get(0);
+        return Optional.of(new SubscriptionDTO(
+                ((Number) row[0]).longValue(),
+                ((Number) row[1]).longValue(),
+                (String) row[2],
+                (String) row[3],
+                true));
+    }
+
+    /**
+     * Portable fallback (used with H2): let the unique constraint reject duplicates on flush.
+     * Neither the user nor the event is selected; references only carry their IDs.
+     */
+    private Optional<SubscriptionDTO> persistUnlessDuplicate(Long userId, Long eventId) {
+        Subscription subscription = new Subscription(
+                entityManager.getReference(User.class, userId),
+                entityManager.getReference(Event.class, eventId));
+        try {
+            entityManager.persist(subscription);
+            entityManager.flush();
+        } catch (PersistenceException e) {
+            if (isUniqueViolation(e)) {
+                entityManager.detach(subscription);
+                return Optional.empty();
+            }
+            throw e;
+        }
+
+        Event event = subscription.getEvent();
+        return Optional.of(new SubscriptionDTO(
+                subscription.getId(), eventId, event.getEventName(), event.getSystemName(), true));
+    }
+
+    private static boolean isUniqueViolation(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof ConstraintViolationException violation) {
+                return violation.getKind() == ConstraintViolationException.ConstraintKind.UNIQUE;
+            }
+        }
+        return false;
+    }
+
+    private boolean isPostgres() {
+        Boolean result = postgres;
+        if (result == null) {
+            result = entityManager.getEntityManagerFactory()
+                    .unwrap(SessionFactoryImplementor.class)
+                    .getJdbcServices()
+                    .getDialect() instanceof PostgreSQLDialect;
+            postgres = result;
+        }
+        return result;
+    }
+}
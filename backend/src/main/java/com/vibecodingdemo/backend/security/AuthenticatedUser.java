@@ -0,0 +1,35 @@
+package com.vibecodingdemo.backend.security;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+
+/**
+ * Security principal for an authenticated application user.
+ * Carries the database ID next to the username so request handlers can write
+ * user-owned rows without looking the user up again.
+ */
+public class AuthenticatedUser extends User {
+
+    private final Long userId;
+
+    public AuthenticatedUser(Long userId, String username, String password,
+                             Collection<? extends GrantedAuthority> authorities) {
+        super(username, password, authorities);
+        this.userId = userId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    @Override
+    public String toString() {
+        return "AuthenticatedUser{" +
+                "userId=" + userId +
+                ", username='" + getUsername() + '\'' +
+                ", authorities=" + getAuthorities() +
+                '}';
+    }
+}
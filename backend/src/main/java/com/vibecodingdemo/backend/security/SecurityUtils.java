@@ -36,6 +36,27 @@ public class SecurityUtils {
         return userService.findByUsername(username);
     }
 
+    /**
+     * Get the ID of the currently authenticated user.
+     * Read from the principal when available, so no database lookup is needed.
+     * @return Optional containing the current user ID, empty if not authenticated
+     */
+    public Optional<Long> getCurrentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        
+        if (authentication == null || !authentication.isAuthenticated() || 
+            authentication.getPrincipal().equals("anonymousUser")) {
+            return Optional.empty();
+        }
+
+        if (authentication.getPrincipal() instanceof AuthenticatedUser authenticatedUser
+                && authenticatedUser.getUserId() != null) {
+            return Optional.of(authenticatedUser.getUserId());
+        }
+
+        return userService.findByUsername(authentication.getName()).map(User::getId);
+    }
+
     /**
      * Get the currently authenticated username
      * @return Optional containing the current username, empty if not authenticated
@@ -0,0 +1,177 @@
+package com.vibecodingdemo.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vibecodingdemo.backend.dto.EventResponseDTO;
+import com.vibecodingdemo.backend.mapper.EventMapper;
+import com.vibecodingdemo.backend.repository.EventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory cache of the full event catalog served by {@code GET /api/events}.
+ * <p>
+ * The catalog is held as an immutable {@link Snapshot} containing the DTO list, the
+ * pre-serialized JSON body and a strong ETag derived from that body. Any change to an
+ * {@link com.vibecodingdemo.backend.entity.Event} bumps the generation counter (see
+ * {@link EventCatalogEntityListener}), which makes the current snapshot stale; the next
+ * read rebuilds it from the database.
+ */
+@Component
+public class EventCatalogCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventCatalogCache.class);
+
+    private final EventRepository eventRepository;
+    private final EventMapper eventMapper;
+    private final ObjectMapper objectMapper;
+
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Snapshot snapshot;
+
+    @Autowired
+    public EventCatalogCache(EventRepository eventRepository, EventMapper eventMapper, ObjectMapper objectMapper) {
+        this.eventRepository = eventRepository;
+        this.eventMapper = eventMapper;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Get the current catalog snapshot, rebuilding it if the catalog has changed
+     * @return the current, immutable catalog snapshot
+     */
+    public Snapshot getSnapshot() {
+        Snapshot current = snapshot;
+        if (current != null && current.getVersion() == generation.get()) {
+            return current;
+        }
+        return rebuild();
+    }
+
+    /**
+     * Mark the current snapshot as stale. Cheap enough to be called on every entity change.
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+    }
+
+    private synchronized Snapshot rebuild() {
+        // Another thread may have rebuilt the snapshot while we were waiting for the lock
+        long version = generation.get();
+        Snapshot current = snapshot;
+        if (current != null && current.getVersion() == version) {
+            return current;
+        }
+
+        List<EventResponseDTO> events = eventRepository.findAll(Sort.by(Sort.Direction.ASC, "id"))
+                .stream()
+                .map(eventMapper::toResponseDTO)
+                .toList();
+
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(events);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize event catalog", e);
+        }
+
+        // If the catalog changed while we were reading, the snapshot keeps the old version
+        // and is simply rebuilt on the next call
+        Snapshot rebuilt = new Snapshot(version, events, body, computeETag(body));
+        snapshot = rebuilt;
+
+        logger.debug("Rebuilt event catalog snapshot (version: {}, events: {}, bytes: {})",
+                version, events.size(), body.length);
+        return rebuilt;
+    }
+
+    private static String computeETag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Immutable view of the event catalog at a given version
+     */
+    public static final class Snapshot {
+
+        private final long version;
+        private final List<EventResponseDTO> events;
+        private final byte[] jsonBody;
+        private final String eTag;
+
+        private Snapshot(long version, List<EventResponseDTO> events, byte[] jsonBody, String eTag) {
+            this.version = version;
+            this.events = events;
+            this.jsonBody = jsonBody;
+            this.eTag = eTag;
+        }
+
+        public long getVersion() {
+            return version;
+        }
+
+        public List<EventResponseDTO> getEvents() {
+            return events;
+        }
+
+        /**
+         * Pre-serialized JSON body. Callers must not modify the returned array.
+         */
+        public byte[] getJsonBody() {
+            return jsonBody;
+        }
+
+        public String getETag() {
+            return eTag;
+        }
+
+        /**
+         * Check an {@code If-None-Match} header value against this snapshot's ETag
+         * @param ifNoneMatch the raw header value, may be null
+         * @return true if the client already holds this version of the catalog
+         */
+        public boolean matches(String ifNoneMatch) {
+            if (ifNoneMatch == null || ifNoneMatch.isEmpty()) {
+                return false;
+            }
+            for (String candidate : ifNoneMatch.split(",")) {
+                String tag = candidate.trim();
+                if ("*".equals(tag)) {
+                    return true;
+                }
+                // If-None-Match uses weak comparison, so a W/ prefix is ignored
+                if (tag.startsWith("W/")) {
+                    tag = tag.substring(2);
+                }
+                if (eTag.equals(tag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public String toString() {
+            return "Snapshot{" +
+                    "version=" + version +
+                    ", events=" + events.size() +
+                    ", eTag='" + eTag + '\'' +
+                    '}';
+        }
+    }
+}
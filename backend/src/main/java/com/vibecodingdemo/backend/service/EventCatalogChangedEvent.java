@@ -0,0 +1,52 @@
+package com.vibecodingdemo.backend.service;
+
+/**
+ * Application event published whenever an {@link com.vibecodingdemo.backend.entity.Event} is
+ * created, updated or deleted. Listeners that act on the change should use
+ * {@code @TransactionalEventListener} so they only see committed state.
+ */
+public class EventCatalogChangedEvent {
+
+    /**
+     * Kind of change applied to the event
+     */
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    private final Long eventId;
+    private final String kafkaTopic;
+    private final ChangeType changeType;
+
+    public EventCatalogChangedEvent(Long eventId, String kafkaTopic, ChangeType changeType) {
+        this.eventId = eventId;
+        this.kafkaTopic = kafkaTopic;
+        this.changeType = changeType;
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    /**
+     * The event's Kafka topic after the change (before it, for deletions)
+     */
+    public String getKafkaTopic() {
+        return kafkaTopic;
+    }
+
+    public ChangeType getChangeType() {
+        return changeType;
+    }
+
+    @Override
+    public String toString() {
+        return "EventCatalogChangedEvent{" +
+                "eventId=" + eventId +
+                ", kafkaTopic='" + kafkaTopic + '\'' +
+                ", changeType=" + changeType +
+                '}';
+    }
+}
@@ -0,0 +1,81 @@
+package com.vibecodingdemo.backend.service;
+
+import com.vibecodingdemo.backend.entity.Event;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JPA entity listener that keeps the {@link EventCatalogCache} in sync with the events table
+ * and publishes an {@link EventCatalogChangedEvent} for every change.
+ * <p>
+ * The cache is invalidated as soon as a change is flushed and once more when the surrounding
+ * transaction completes, so a snapshot rebuilt from uncommitted (or rolled back) state never
+ * outlives the transaction that produced it.
+ * <p>
+ * Instances are created by Hibernate through Spring's bean container. The cache is looked up
+ * lazily so that JPA-only contexts (e.g. {@code @DataJpaTest}) work without it.
+ */
+@Component
+public class EventCatalogEntityListener {
+
+    private final ObjectProvider<EventCatalogCache> eventCatalogCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    public EventCatalogEntityListener(ObjectProvider<EventCatalogCache> eventCatalogCache,
+                                      ApplicationEventPublisher eventPublisher) {
+        this.eventCatalogCache = eventCatalogCache;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    public void onEventCreated(Event event) {
+        onEventChanged(event, EventCatalogChangedEvent.ChangeType.CREATED);
+    }
+
+    @PostUpdate
+    public void onEventUpdated(Event event) {
+        onEventChanged(event, EventCatalogChangedEvent.ChangeType.UPDATED);
+    }
+
+    @PostRemove
+    public void onEventDeleted(Event event) {
+        onEventChanged(event, EventCatalogChangedEvent.ChangeType.DELETED);
+    }
+
+    private void onEventChanged(Event event, EventCatalogChangedEvent.ChangeType changeType) {
+        eventPublisher.publishEvent(new EventCatalogChangedEvent(event.getId(), event.getKafkaTopic(), changeType));
+
+        EventCatalogCache cache = eventCatalogCache.getIfAvailable();
+        if (cache == null) {
+            return;
+        }
+
+        cache.invalidate();
+        invalidateAfterCompletion(cache);
+    }
+
+    private void invalidateAfterCompletion(EventCatalogCache cache) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(cache)) {
+            return;
+        }
+
+        // Register a single synchronization per transaction, even for bulk changes
+        TransactionSynchronizationManager.bindResource(cache, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(cache);
+                cache.invalidate();
+            }
+        });
+    }
+}
@@ -1,11 +1,16 @@
 package com.vibecodingdemo.backend.service;
 
+import com.vibecodingdemo.backend.dto.CursorPageDTO;
 import com.vibecodingdemo.backend.dto.EventDTO;
 import com.vibecodingdemo.backend.dto.EventResponseDTO;
 import com.vibecodingdemo.backend.entity.Event;
+import com.vibecodingdemo.backend.exception.DuplicateKafkaTopicException;
 import com.vibecodingdemo.backend.mapper.EventMapper;
 import com.vibecodingdemo.backend.repository.EventRepository;
+import com.vibecodingdemo.backend.util.CursorPagination;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -15,24 +20,95 @@ import java.util.stream.Collectors;
 @Service
 public class EventService {
 
+    private static final int MAX_SEARCH_QUERY_LENGTH = 200;
+
     private final EventRepository eventRepository;
     private final EventMapper eventMapper;
+    private final EventCatalogCache eventCatalogCache;
 
     @Autowired
-    public EventService(EventRepository eventRepository, EventMapper eventMapper) {
+    public EventService(EventRepository eventRepository, EventMapper eventMapper, EventCatalogCache eventCatalogCache) {
         this.eventRepository = eventRepository;
         this.eventMapper = eventMapper;
+        this.eventCatalogCache = eventCatalogCache;
     }
 
     /**
      * Get all events
-     * @return list of all events as EventResponseDTO
+     * @return immutable list of all events as EventResponseDTO, ordered by ID
      */
     public List<EventResponseDTO> getAllEvents() {
-        return eventRepository.findAll()
-                .stream()
+        return eventCatalogCache.getSnapshot().getEvents();
+    }
+
+    /**
+     * Get the cached event catalog, including its pre-serialized JSON body and ETag
+     * @return the current catalog snapshot
+     */
+    public EventCatalogCache.Snapshot getEventCatalog() {
+        return eventCatalogCache.getSnapshot();
+    }
+
+    /**
+     * Get a keyset-paginated page of events
+     * @param after the ID of the last event of the previous page, or null for the first page
+     * @param limit the page size, or null for the default
+     * @param sort the ID sort direction ("asc" or "desc"), or null for ascending
+     * @param systemName optional exact system name filter
+     * @param eventNamePrefix optional event name prefix filter
+     * @return the requested page of events
+     * @throws IllegalArgumentException if limit or sort are invalid
+     */
+    public CursorPageDTO<EventResponseDTO> getEventsPage(Long after, Integer limit, String sort,
+                                                         String systemName, String eventNamePrefix) {
+        int pageSize = CursorPagination.resolveLimit(limit);
+        Sort.Direction direction = CursorPagination.resolveDirection(sort);
+        long cursor = CursorPagination.resolveCursor(after, direction);
+        String systemFilter = CursorPagination.toFilter(systemName);
+        String namePattern = CursorPagination.toPrefixPattern(eventNamePrefix);
+        Pageable page = CursorPagination.overfetch(pageSize);
+
+        List<Event> events = direction.isAscending()
+                ? eventRepository.findPageAfterId(cursor, systemFilter, namePattern, page)
+                : eventRepository.findPageBeforeId(cursor, systemFilter, namePattern, page);
+
+        List<EventResponseDTO> dtos = events.stream()
                 .map(eventMapper::toResponseDTO)
-                .collect(Collectors.toList());
+                .toList();
+        return CursorPageDTO.fromOverfetched(dtos, pageSize, EventResponseDTO::getId);
+    }
+
+    /**
+     * Ranked full-text search over the event catalog
+     * @param query the search text
+     * @param offset the number of results to skip, or null for the first page
+     * @param limit the page size, or null for the default
+     * @return the requested page of matching events, best match first; {@code nextCursor}
+     *         is the offset of the next page
+     * @throws IllegalArgumentException if the query, offset or limit are invalid
+     */
+    public CursorPageDTO<EventResponseDTO> searchEvents(String query, Integer offset, Integer limit) {
+        String text = CursorPagination.toFilter(query);
+        if (text == null) {
+            throw new IllegalArgumentException("Search query must not be empty");
+        }
+        if (text.length() > MAX_SEARCH_QUERY_LENGTH) {
+            throw new IllegalArgumentException("Search query must be at most " + MAX_SEARCH_QUERY_LENGTH + " characters");
+        }
+        int start = offset != null ? offset : 0;
+        if (start < 0) {
+            throw new IllegalArgumentException("Offset must not be negative");
+        }
+        int pageSize = CursorPagination.resolveLimit(limit);
+
+        List<EventResponseDTO> results = eventRepository.searchEvents(text, start, pageSize + 1).stream()
+                .map(eventMapper::toResponseDTO)
+                .toList();
+
+        boolean hasMore = results.size() > pageSize;
+        List<EventResponseDTO> items = hasMore ? results.subList(0, pageSize) : results;
+        Long nextOffset = hasMore ? (long) start + pageSize : null;
+        return new CursorPageDTO<>(items, pageSize, hasMore, nextOffset);
     }
 
     /**
@@ -49,8 +125,10 @@ public class EventService {
      * Create a new event
      * @param eventDTO the event data
      * @return the created event as EventResponseDTO
+     * @throws DuplicateKafkaTopicException if another event already uses the Kafka topic
      */
     public EventResponseDTO createEvent(EventDTO eventDTO) {
+        requireUnusedKafkaTopic(eventDTO.getKafkaTopic(), null);
         Event event = eventMapper.toEntity(eventDTO);
         Event savedEvent = eventRepository.save(event);
         return eventMapper.toResponseDTO(savedEvent);
@@ -61,16 +139,33 @@ public class EventService {
      * @param id the event ID
      * @param eventDTO the updated event data
      * @return Optional containing the updated event as EventResponseDTO if found, empty otherwise
+     * @throws DuplicateKafkaTopicException if another event already uses the Kafka topic
      */
     public Optional<EventResponseDTO> updateEvent(Long id, EventDTO eventDTO) {
         return eventRepository.findById(id)
                 .map(existingEvent -> {
+                    requireUnusedKafkaTopic(eventDTO.getKafkaTopic(), id);
                     eventMapper.updateEntityFromDTO(existingEvent, eventDTO);
                     Event updatedEvent = eventRepository.save(existingEvent);
                     return eventMapper.toResponseDTO(updatedEvent);
                 });
     }
 
+    /**
+     * Reject a Kafka topic that is already mapped to another event; the unique index
+     * uk_events_kafka_topic would reject it on flush, but only as an opaque integrity violation
+     * @param kafkaTopic the topic
+     * @param eventId the event the topic is for, or null for a new event
+     */
+    private void requireUnusedKafkaTopic(String kafkaTopic, Long eventId) {
+        eventRepository.findByKafkaTopic(kafkaTopic)
+                .filter(other -> !other.getId().equals(eventId))
+                .ifPresent(other -> {
+                    throw new DuplicateKafkaTopicException("Kafka topic " + kafkaTopic
+                            + " is already used by event with id: " + other.getId());
+                });
+    }
+
     /**
      * Delete an event by ID
      * @param id the event ID
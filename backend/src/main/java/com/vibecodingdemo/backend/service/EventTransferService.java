@@ -0,0 +1,357 @@
+package com.vibecodingdemo.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vibecodingdemo.backend.dto.EventDTO;
+import com.vibecodingdemo.backend.dto.EventImportResultDTO;
+import com.vibecodingdemo.backend.entity.Event;
+import com.vibecodingdemo.backend.mapper.EventMapper;
+import com.vibecodingdemo.backend.repository.EventRepository;
+import com.vibecodingdemo.backend.util.CsvRecordReader;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Bulk import and export of the event catalog.
+ * <p>
+ * Both directions stream: imports are parsed record by record and written in batches of
+ * {@value #BATCH_SIZE} events, each in its own transaction, and exports write rows as they are
+ * read from a database cursor. Neither holds the whole catalog in memory.
+ */
+@Service
+public class EventTransferService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventTransferService.class);
+
+    static final int BATCH_SIZE = 500;
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private static final List<String> CSV_IMPORT_COLUMNS =
+            List.of("systemName", "eventName", "kafkaTopic", "description");
+    private static final List<String> CSV_EXPORT_COLUMNS =
+            List.of("id", "systemName", "eventName", "kafkaTopic", "description", "createdAt", "updatedAt");
+
+    /**
+     * Supported wire formats
+     */
+    public enum Format {
+        /** Newline-delimited JSON, one event object per line */
+        NDJSON,
+        /** CSV with a header row */
+        CSV;
+
+        /**
+         * Parse a format name
+         * @param name "ndjson" or "csv" (case insensitive), null for NDJSON
+         * @return the format
+         * @throws IllegalArgumentException if the name is unknown
+         */
+        public static Format fromName(String name) {
+            if (name == null || name.isBlank()) {
+                return NDJSON;
+            }
+            try {
+                return valueOf(name.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unsupported format: " + name + " (expected ndjson or csv)");
+            }
+        }
+    }
+
+    private final EventRepository eventRepository;
+    private final EventMapper eventMapper;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    public EventTransferService(EventRepository eventRepository, EventMapper eventMapper,
+                                Validator validator,
+                                ObjectMapper objectMapper, PlatformTransactionManager transactionManager) {
+        this.eventRepository = eventRepository;
+        this.eventMapper = eventMapper;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * Import events, creating new ones and updating existing ones matched by Kafka topic.
+     * Invalid records are skipped and reported; valid ones are committed batch by batch, so a
+     * failure late in the input does not undo earlier batches. Listeners for newly created
+     * topics are started by the {@link KafkaListenerReconciler} as each batch commits.
+     * @param body the request body
+     * @param format the body format
+     * @return the import summary
+     * @throws IOException if reading the body fails
+     * @throws IllegalArgumentException if the CSV header is missing required columns
+     */
+    public EventImportResultDTO importEvents(InputStream body, Format format) throws IOException {
+        ImportRun run = new ImportRun();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            if (format == Format.CSV) {
+                readCsv(reader, run);
+            } else {
+                readNdjson(reader, run);
+            }
+        }
+        run.flush();
+
+        logger.info("Event import finished: {}", run.result);
+        return run.result;
+    }
+
+    /**
+     * Write all events to the given stream, in ID order
+     * @param out the response stream
+     * @param format the output format
+     */
+    public void exportEvents(OutputStream out, Format format) {
+        readOnlyTransactionTemplate.executeWithoutResult(status -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            long count = 0;
+            try (Stream<Event> events = eventRepository.streamAllOrderedById()) {
+                if (format == Format.CSV) {
+                    writer.write(CsvRecordReader.formatRecord(CSV_EXPORT_COLUMNS));
+                    writer.write('\n');
+                }
+
+                Iterator<Event> iterator = events.iterator();
+                while (iterator.hasNext()) {
+                    Event event = iterator.next();
+                    writer.write(format == Format.CSV ? toCsv(event) : toJson(event));
+                    writer.write('\n');
+                    // Keep the persistence context from growing with the catalog
+                    entityManager.detach(event);
+                    count++;
+                }
+                writer.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            logger.info("Exported {} events as {}", count, format);
+        });
+    }
+
+    private void readNdjson(BufferedReader reader, ImportRun run) throws IOException {
+        long lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            run.countRecord();
+            try {
+                run.accept(lineNumber, objectMapper.readValue(line, EventDTO.class));
+            } catch (JsonProcessingException e) {
+                run.reject(lineNumber, "invalid JSON: " + e.getOriginalMessage());
+            }
+        }
+    }
+
+    private void readCsv(BufferedReader reader, ImportRun run) throws IOException {
+        CsvRecordReader csv = new CsvRecordReader(reader);
+        List<String> header = csv.readRecord();
+        if (header == null) {
+            return;
+        }
+
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim(), i);
+        }
+        List<String> missing = CSV_IMPORT_COLUMNS.stream()
+                .filter(column -> !columns.containsKey(column))
+                .toList();
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("CSV header is missing columns: " + missing);
+        }
+
+        List<String> record;
+        while ((record = csv.readRecord()) != null) {
+            if (record.size() == 1 && record.get(0).isBlank()) {
+                continue;
+            }
+            run.countRecord();
+            run.accept(csv.getRecordLine(), new EventDTO(
+                    field(record, columns.get("systemName")),
+                    field(record, columns.get("eventName")),
+                    field(record, columns.get("kafkaTopic")),
+                    field(record, columns.get("description"))));
+        }
+    }
+
+    private static String field(List<String> record, int index) {
+        return index < record.size() ? record.get(index) : null;
+    }
+
+    private String toJson(Event event) {
+        try {
+            return objectMapper.writeValueAsString(eventMapper.toResponseDTO(event));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize event " + event.getId(), e);
+        }
+    }
+
+    private static String toCsv(Event event) {
+        return CsvRecordReader.formatRecord(Arrays.asList(
+                String.valueOf(event.getId()),
+                event.getSystemName(),
+                event.getEventName(),
+                event.getKafkaTopic(),
+                event.getDescription(),
+                Objects.toString(event.getCreatedAt(), null),
+                Objects.toString(event.getUpdatedAt(), null)));
+    }
+
+    /**
+     * State of a single import: the pending batch, and counters
+     */
+    private class ImportRun {
+
+        private final EventImportResultDTO result = new EventImportResultDTO();
+        // Keyed by topic so that a topic repeated within a batch is written once (last wins)
+        private final Map<String, PendingEvent> batch = new LinkedHashMap<>();
+
+        void accept(long lineNumber, EventDTO eventDTO) {
+            Set<ConstraintViolation<EventDTO>> violations = validator.validate(eventDTO);
+            if (!violations.isEmpty()) {
+                reject(lineNumber, violations.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .sorted()
+                        .collect(Collectors.joining("; ")));
+                return;
+            }
+
+            PendingEvent previous = batch.put(eventDTO.getKafkaTopic(), new PendingEvent(lineNumber, eventDTO));
+            if (previous != null) {
+                // Superseded by a later record for the same topic
+                result.setUnchanged(result.getUnchanged() + 1);
+            }
+            if (batch.size() >= BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        void countRecord() {
+            result.setReceived(result.getReceived() + 1);
+        }
+
+        void reject(long lineNumber, String message) {
+            result.setRejected(result.getRejected() + 1);
+            addError("line " + lineNumber + ": " + message);
+        }
+
+        void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            List<PendingEvent> pending = new ArrayList<>(batch.values());
+            batch.clear();
+
+            try {
+                BatchOutcome outcome = transactionTemplate.execute(status -> writeBatch(pending));
+                result.setCreated(result.getCreated() + outcome.created);
+                result.setUpdated(result.getUpdated() + outcome.updated);
+                result.setUnchanged(result.getUnchanged() + outcome.unchanged);
+            } catch (DataAccessException | TransactionException e) {
+                logger.warn("Event import batch (lines {}-{}) failed: {}",
+                        pending.get(0).lineNumber(), pending.get(pending.size() - 1).lineNumber(), e.getMessage());
+                result.setRejected(result.getRejected() + pending.size());
+                addError("lines " + pending.get(0).lineNumber() + "-" + pending.get(pending.size() - 1).lineNumber()
+                        + ": batch rejected: " + NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+            }
+        }
+
+        private BatchOutcome writeBatch(List<PendingEvent> pending) {
+            Map<String, Event> existing = eventRepository.findByKafkaTopicIn(
+                            pending.stream().map(p -> p.eventDTO().getKafkaTopic()).toList())
+                    .stream()
+                    .collect(Collectors.toMap(Event::getKafkaTopic, Function.identity()));
+
+            BatchOutcome outcome = new BatchOutcome();
+            List<Event> created = new ArrayList<>();
+            for (PendingEvent p : pending) {
+                Event event = existing.get(p.eventDTO().getKafkaTopic());
+                if (event == null) {
+                    created.add(eventMapper.toEntity(p.eventDTO()));
+                    outcome.created++;
+                } else if (isChanged(event, p.eventDTO())) {
+                    // Flushed by dirty checking on commit
+                    eventMapper.updateEntityFromDTO(event, p.eventDTO());
+                    outcome.updated++;
+                } else {
+                    outcome.unchanged++;
+                }
+            }
+            eventRepository.saveAll(created);
+            return outcome;
+        }
+
+        private void addError(String error) {
+            if (result.getErrors().size() < MAX_REPORTED_ERRORS) {
+                result.getErrors().add(error);
+            } else {
+                result.setErrorsTruncated(true);
+            }
+        }
+    }
+
+    private static boolean isChanged(Event event, EventDTO eventDTO) {
+        return !Objects.equals(event.getSystemName(), eventDTO.getSystemName())
+                || !Objects.equals(event.getEventName(), eventDTO.getEventName())
+                || !Objects.equals(event.getDescription(), eventDTO.getDescription());
+    }
+
+    private record PendingEvent(long lineNumber, EventDTO eventDTO) {
+    }
+
+    private static class BatchOutcome {
+        private long created;
+        private long updated;
+        private long unchanged;
+    }
+}
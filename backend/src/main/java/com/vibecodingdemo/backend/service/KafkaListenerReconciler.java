@@ -0,0 +1,214 @@
+package com.vibecodingdemo.backend.service;
+
+import com.vibecodingdemo.backend.repository.EventRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Keeps the running Kafka listener containers in line with the event catalog.
+ * <p>
+ * Each pass diffs the topics configured on events (the desired state) against the topics
+ * that have a container (the actual state): containers for topics that are gone are stopped
+ * first, then containers for new topics are started. A changed {@code kafkaTopic} is simply
+ * one of each, so the old consumer never outlives the change. At most {@code batch-size}
+ * start/stop operations are applied per pass; remaining work is picked up by an immediately
+ * following pass, so a large import does not block the reconciler thread for long.
+ * <p>
+ * A topic whose start or stop failed is skipped by the following passes until the next periodic
+ * pass retries it, so persistently failing topics neither keep the reconciler busy nor hold up
+ * the topics behind them.
+ * <p>
+ * Passes are triggered after every committed catalog change, on startup and periodically as
+ * a safety net (e.g. for a container that failed to start). Requests are coalesced: however
+ * many events a transaction touches, at most one pass is queued at a time.
+ */
+@Component
+public class KafkaListenerReconciler {
+
+    private static final Logger logger = LoggerFactory.getLogger(KafkaListenerReconciler.class);
+
+    private final EventRepository eventRepository;
+    private final KafkaListenerService kafkaListenerService;
+    private final int batchSize;
+
+    private final AtomicBoolean passPending = new AtomicBoolean();
+    // Topics whose last start/stop failed; cleared by the periodic pass
+    private final Set<String> failedTopics = ConcurrentHashMap.newKeySet();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "kafka-listener-reconciler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Autowired
+    public KafkaListenerReconciler(EventRepository eventRepository,
+                                   KafkaListenerService kafkaListenerService,
+                                   @Value("${kafka.listener.reconcile.batch-size:20}") int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("kafka.listener.reconcile.batch-size must be at least 1");
+        }
+        this.eventRepository = eventRepository;
+        this.kafkaListenerService = kafkaListenerService;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Schedule a pass once the transaction that changed the catalog has committed.
+     * Changes made outside a transaction are handled immediately.
+     * @param event the catalog change
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEventCatalogChanged(EventCatalogChangedEvent event) {
+        logger.debug("Event catalog changed: {}", event);
+        requestReconcile();
+    }
+
+    /**
+     * Periodic safety pass, e.g. for listeners that failed to start earlier
+     */
+    @Scheduled(initialDelayString = "${kafka.listener.reconcile.interval-ms:60000}",
+            fixedDelayString = "${kafka.listener.reconcile.interval-ms:60000}")
+    public void reconcilePeriodically() {
+        failedTopics.clear();
+        requestReconcile();
+    }
+
+    /**
+     * Queue a reconciliation pass on the reconciler thread, unless one is already queued
+     */
+    public void requestReconcile() {
+        if (!passPending.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(this::runQueuedPass);
+        } catch (RejectedExecutionException e) {
+            // Shutting down
+            passPending.set(false);
+        }
+    }
+
+    private void runQueuedPass() {
+        // Clear the flag first so that changes committed during this pass queue another one
+        passPending.set(false);
+        try {
+            if (reconcile() > 0) {
+                requestReconcile();
+            }
+        } catch (Exception e) {
+            logger.error("Kafka listener reconciliation failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Run a single reconciliation pass on the calling thread
+     * @return the number of start/stop operations not attempted in this pass, excluding topics
+     *         that failed earlier and wait for the next periodic pass
+     */
+    public synchronized int reconcile() {
+        Set<String> desired = new HashSet<>(eventRepository.findAllKafkaTopics());
+        desired.removeIf(topic -> topic == null || topic.isBlank());
+        Set<String> active = kafkaListenerService.getActiveTopics();
+
+        List<String> toStop = new ArrayList<>();
+        int skipped = 0;
+        for (String topic : active) {
+            if (!desired.contains(topic)) {
+                if (failedTopics.contains(topic)) {
+                    skipped++;
+                } else {
+                    toStop.add(topic);
+                }
+            }
+        }
+        List<String> toStart = new ArrayList<>();
+        for (String topic : desired) {
+            if (!active.contains(topic)) {
+                if (failedTopics.contains(topic)) {
+                    skipped++;
+                } else {
+                    toStart.add(topic);
+                }
+            }
+        }
+
+        if (toStop.isEmpty() && toStart.isEmpty()) {
+            if (skipped > 0) {
+                logger.debug("{} Kafka listener change(s) wait for the next periodic pass after failing", skipped);
+            } else {
+                logger.debug("Kafka listeners are in sync with the event catalog ({} topics)", desired.size());
+            }
+            return 0;
+        }
+
+        // Stop before starting so that a burst of topic changes never doubles the consumer count
+        int budget = batchSize;
+        int stopped = 0;
+        int started = 0;
+        int failed = 0;
+        for (String topic : toStop) {
+            if (budget == 0) {
+                break;
+            }
+            budget--;
+            if (applySafely(topic, false)) {
+                stopped++;
+            } else {
+                failedTopics.add(topic);
+                failed++;
+            }
+        }
+        for (String topic : toStart) {
+            if (budget == 0) {
+                break;
+            }
+            budget--;
+            if (applySafely(topic, true)) {
+                started++;
+            } else {
+                failedTopics.add(topic);
+                failed++;
+            }
+        }
+
+        // Failed topics are left to the periodic pass, so only work not attempted yet remains
+        int remaining = toStop.size() + toStart.size() - (batchSize - budget);
+        logger.info("Reconciled Kafka listeners - Started: {}, Stopped: {}, Failed: {}, Remaining: {}, " +
+                "Awaiting retry: {}", started, stopped, failed, remaining, skipped);
+        return remaining;
+    }
+
+    private boolean applySafely(String topic, boolean start) {
+        try {
+            return start
+                    ? kafkaListenerService.startListeningToTopic(topic)
+                    : kafkaListenerService.stopListeningToTopic(topic);
+        } catch (Exception e) {
+            logger.error("Failed to {} Kafka listener for topic '{}': {}",
+                    start ? "start" : "stop", topic, e.getMessage(), e);
+            return false;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -1,5 +1,7 @@
 package com.vibecodingdemo.backend.service;
 
+import java.util.Set;
+
 /**
  * Service interface for managing dynamic Kafka listeners.
  * Provides methods to start and stop listeners for specific topics programmatically.
@@ -40,4 +42,11 @@ public interface KafkaListenerService {
      * @return true if actively listening to the topic, false otherwise
      */
     boolean isListeningToTopic(String topic);
-} 
\ No newline at end of file
+
+    /**
+     * Get the topics that currently have a listener container.
+     *
+     * @return an immutable snapshot of the active topics
+     */
+    Set<String> getActiveTopics();
+}
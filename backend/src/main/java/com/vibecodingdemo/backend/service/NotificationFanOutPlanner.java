@@ -0,0 +1,116 @@
+package com.vibecodingdemo.backend.service;
+
+import com.vibecodingdemo.backend.util.TelegramRecipients;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Turns the subscribers of an event into the set of Telegram chats a message is sent to.
+ * <p>
+ * Every subscriber contributes their activated bot chat and their additional recipients.
+ * A chat that appears several times - a team channel listed by many users, or a user's own
+ * chat repeated in their recipients - is sent to once. The plan remembers which users each
+ * chat serves, for logging and auditing.
+ */
+@Component
+public class NotificationFanOutPlanner {
+
+    /**
+     * Plan the fan-out of one message
+     * @param subscribers the subscribers of the event
+     * @return the deduplicated plan, with chats in order of first appearance
+     */
+    public Plan plan(Collection<Subscriber> subscribers) {
+        Map<String, Set<String>> usernamesByChatId = new LinkedHashMap<>();
+        List<String> usersWithoutTargets = new ArrayList<>();
+
+        for (Subscriber subscriber : subscribers) {
+            Set<String> chatIds = TelegramRecipients.chatIds(subscriber.telegramChatId(), subscriber.telegramRecipients());
+            if (chatIds.isEmpty()) {
+                usersWithoutTargets.add(subscriber.username());
+                continue;
+            }
+            for (String chatId : chatIds) {
+                usernamesByChatId.computeIfAbsent(chatId, key -> new LinkedHashSet<>()).add(subscriber.username());
+            }
+        }
+
+        return new Plan(subscribers.size(), usernamesByChatId, usersWithoutTargets);
+    }
+
+    /**
+     * Notification settings of a subscriber, copied out of the entity so that delivery
+     * does not touch Hibernate-managed state
+     */
+    public record Subscriber(String username, String telegramChatId, String telegramRecipients) {
+    }
+
+    /**
+     * Deduplicated fan-out of a single message
+     */
+    public static final class Plan {
+
+        private final int subscriberCount;
+        private final Map<String, Set<String>> usernamesByChatId;
+        private final List<String> usersWithoutTargets;
+
+        private Plan(int subscriberCount, Map<String, Set<String>> usernamesByChatId, List<String> usersWithoutTargets) {
+            this.subscriberCount = subscriberCount;
+            this.usernamesByChatId = Collections.unmodifiableMap(usernamesByChatId);
+            this.usersWithoutTargets = Collections.unmodifiableList(usersWithoutTargets);
+        }
+
+        public int getSubscriberCount() {
+            return subscriberCount;
+        }
+
+        /**
+         * The unique chats to send to, in order of first appearance
+         */
+        public Set<String> getChatIds() {
+            return usernamesByChatId.keySet();
+        }
+
+        /**
+         * The users a chat is sent to on behalf of
+         * @param chatId the chat ID
+         * @return the usernames, empty if the chat is not part of the plan
+         */
+        public Set<String> getUsernames(String chatId) {
+            return usernamesByChatId.getOrDefault(chatId, Set.of());
+        }
+
+        /**
+         * Number of sends saved by sharing chats between subscribers
+         */
+        public int getDuplicateCount() {
+            int targets = 0;
+            for (Set<String> usernames : usernamesByChatId.values()) {
+                targets += usernames.size();
+            }
+            return targets - usernamesByChatId.size();
+        }
+
+        public List<String> getUsersWithoutTargets() {
+            return usersWithoutTargets;
+        }
+
+        @Override
+        public String toString() {
+            return "Plan{" +
+                    "subscribers=" + subscriberCount +
+                    ", chats=" + usernamesByChatId.size() +
+                    ", duplicates=" + getDuplicateCount() +
+                    ", usersWithoutTargets=" + usersWithoutTargets.size() +
+                    '}';
+        }
+    }
+}
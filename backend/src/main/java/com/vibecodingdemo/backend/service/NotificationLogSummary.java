@@ -0,0 +1,103 @@
+package com.vibecodingdemo.backend.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Aggregates notification processing results into one INFO line per interval.
+ * <p>
+ * Per-message details are logged at DEBUG only; at production volumes a log line per message
+ * and recipient would cost more than the processing itself. The summary is written every
+ * {@code notification.log.summary-interval-ms} and skipped when nothing happened.
+ * <p>
+ * Sends that were scheduled for retry are counted as such when the message is processed; their
+ * final outcome is counted as delivered, failed or suppressed when the retry finishes, possibly
+ * in a later interval.
+ */
+@Component
+public class NotificationLogSummary {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationLogSummary.class);
+
+    private final long intervalMs;
+
+    private final LongAdder messages = new LongAdder();
+    private final LongAdder skippedMessages = new LongAdder();
+    private final LongAdder chats = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder retryScheduled = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder suppressed = new LongAdder();
+    private final LongAdder deduplicated = new LongAdder();
+
+    public NotificationLogSummary(@Value("${notification.log.summary-interval-ms:10000}") long intervalMs) {
+        this.intervalMs = intervalMs;
+    }
+
+    /**
+     * Record a processed message
+     * @param chatCount the number of chats the message was sent to
+     * @param deliveredCount sends delivered on the first attempt
+     * @param retryScheduledCount sends that failed with a retryable error and were scheduled for retry
+     * @param failedCount sends that failed
+     * @param suppressedCount chats skipped because they are suppressed
+     * @param deduplicatedCount subscriber targets merged into a shared chat
+     */
+    public void recordMessage(int chatCount, int deliveredCount, int retryScheduledCount, int failedCount,
+                              int suppressedCount, int deduplicatedCount) {
+        messages.increment();
+        chats.add(chatCount);
+        delivered.add(deliveredCount);
+        retryScheduled.add(retryScheduledCount);
+        failed.add(failedCount);
+        suppressed.add(suppressedCount);
+        deduplicated.add(deduplicatedCount);
+    }
+
+    /**
+     * Record the final outcome of a send that was retried
+     * @param status the status of the last attempt
+     */
+    public void recordRetryOutcome(TelegramDeliveryScheduler.DeliveryStatus status) {
+        switch (status) {
+            case DELIVERED -> delivered.increment();
+            case FAILED -> failed.increment();
+            case SUPPRESSED -> suppressed.increment();
+            case RETRY_SCHEDULED -> { }
+        }
+    }
+
+    /**
+     * Record a message that was not sent to anyone (unknown topic or no subscribers)
+     */
+    public void recordSkippedMessage() {
+        skippedMessages.increment();
+    }
+
+    @Scheduled(fixedDelayString = "${notification.log.summary-interval-ms:10000}",
+               initialDelayString = "${notification.log.summary-interval-ms:10000}")
+    public void logSummary() {
+        long messageCount = messages.sumThenReset();
+        long skippedCount = skippedMessages.sumThenReset();
+        long chatCount = chats.sumThenReset();
+        long deliveredCount = delivered.sumThenReset();
+        long retryScheduledCount = retryScheduled.sumThenReset();
+        long failedCount = failed.sumThenReset();
+        long suppressedCount = suppressed.sumThenReset();
+        long deduplicatedCount = deduplicated.sumThenReset();
+        if (messageCount == 0 && skippedCount == 0
+                && deliveredCount == 0 && failedCount == 0 && suppressedCount == 0) {
+            return;
+        }
+
+        logger.info("Notifications in the last {} s: {} messages ({} without recipients), {} chats, " +
+                "{} delivered, {} retries scheduled, {} failed, {} suppressed, {} deduplicated",
+                intervalMs / 1000, messageCount, skippedCount, chatCount,
+                deliveredCount, retryScheduledCount, failedCount, suppressedCount, deduplicatedCount);
+    }
+}
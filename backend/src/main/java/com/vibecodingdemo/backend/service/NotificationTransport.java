@@ -0,0 +1,19 @@
+package com.vibecodingdemo.backend.service;
+
+/**
+ * Delivers a single notification message to a chat.
+ * <p>
+ * The default implementation calls the Telegram Bot API. With the {@code mock-telegram}
+ * profile an in-process mock is used instead, so the notification pipeline can be exercised
+ * and benchmarked without a bot token or network access.
+ */
+public interface NotificationTransport {
+
+    /**
+     * Make a single attempt to deliver a message
+     * @param chatId the chat ID to send the message to
+     * @param message the message content (can be JSON string or plain text)
+     * @return the classified result; implementations never throw for delivery errors
+     */
+    TelegramSendResult send(String chatId, String message);
+}
@@ -0,0 +1,143 @@
+package com.vibecodingdemo.backend.service;
+
+import com.vibecodingdemo.backend.dto.SuppressedRecipientDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Tracks the delivery health of Telegram chats and suppresses chats that keep rejecting
+ * our messages.
+ * <p>
+ * Only permanent failures count against a chat; rate limiting and transient errors are
+ * Telegram's problem, not the recipient's. A chat is suppressed immediately when Telegram says
+ * it is gone (bot blocked, chat not found), or after
+ * {@code telegram.recipients.suppress-after-failures} consecutive permanent failures of any
+ * other kind. A successful delivery resets the chat. Suppressed chats are skipped by the
+ * notification fan-out until the user re-activates the bot or clears the suppression.
+ * <p>
+ * The registry is held in memory: after a restart each dead chat costs one more failed call
+ * before it is suppressed again.
+ */
+@Component
+public class RecipientHealthRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(RecipientHealthRegistry.class);
+
+    /**
+     * Class of the last error a chat returned
+     */
+    public enum ErrorClass {
+        /** The bot was blocked, or the chat or user no longer exists */
+        RECIPIENT_GONE,
+        /** Any other permanent error, e.g. a rejected message */
+        PERMANENT
+    }
+
+    private final ConcurrentMap<String, RecipientHealth> healthByChatId = new ConcurrentHashMap<>();
+    private final int suppressAfterFailures;
+
+    public RecipientHealthRegistry(@Value("${telegram.recipients.suppress-after-failures:5}") int suppressAfterFailures) {
+        this.suppressAfterFailures = suppressAfterFailures;
+    }
+
+    /**
+     * Record a successful delivery, which resets the chat's failure count
+     * @param chatId the chat ID
+     */
+    public void recordSuccess(String chatId) {
+        // Read first, so the common healthy case does not write to the map
+        if (healthByChatId.containsKey(chatId)) {
+            healthByChatId.remove(chatId);
+        }
+    }
+
+    /**
+     * Record a failed delivery. Retryable failures are ignored.
+     * @param chatId the chat ID
+     * @param result the failed send result
+     */
+    public void recordFailure(String chatId, TelegramSendResult result) {
+        if (result.isDelivered() || result.isRetryable()) {
+            return;
+        }
+
+        ErrorClass errorClass = result.isRecipientGone() ? ErrorClass.RECIPIENT_GONE : ErrorClass.PERMANENT;
+        boolean[] newlySuppressed = new boolean[1];
+        RecipientHealth updated = healthByChatId.compute(chatId, (key, current) -> {
+            int failures = current == null ? 1 : current.consecutiveFailures() + 1;
+            LocalDateTime suppressedAt = current != null ? current.suppressedAt() : null;
+            if (suppressedAt == null
+                    && (errorClass == ErrorClass.RECIPIENT_GONE || failures >= suppressAfterFailures)) {
+                suppressedAt = LocalDateTime.now();
+                newlySuppressed[0] = true;
+            }
+            return new RecipientHealth(failures, errorClass, result.getErrorCode(), result.getDescription(), suppressedAt);
+        });
+
+        if (newlySuppressed[0]) {
+            logger.warn("Suppressing Telegram chat {} after {} failure(s): {} {}", chatId,
+                    updated.consecutiveFailures(), updated.errorCode(), updated.description());
+        }
+    }
+
+    /**
+     * Check whether notifications to a chat are suppressed
+     * @param chatId the chat ID
+     * @return true if the chat should be skipped
+     */
+    public boolean isSuppressed(String chatId) {
+        RecipientHealth health = healthByChatId.get(chatId);
+        return health != null && health.isSuppressed();
+    }
+
+    /**
+     * Lift the suppression of a chat and forget its failures, e.g. after the user re-activated the bot
+     * @param chatId the chat ID
+     * @return true if the chat was suppressed
+     */
+    public boolean clear(String chatId) {
+        RecipientHealth removed = healthByChatId.remove(chatId);
+        if (removed != null && removed.isSuppressed()) {
+            logger.info("Lifted suppression of Telegram chat {}", chatId);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Get the suppressed chats among the given ones
+     * @param chatIds the chat IDs to check, e.g. a user's notification targets
+     * @return the suppressed chats, in the order given
+     */
+    public List<SuppressedRecipientDTO> getSuppressed(Collection<String> chatIds) {
+        List<SuppressedRecipientDTO> suppressed = new ArrayList<>();
+        for (String chatId : chatIds) {
+            RecipientHealth health = healthByChatId.get(chatId);
+            if (health != null && health.isSuppressed()) {
+                suppressed.add(new SuppressedRecipientDTO(chatId, health.errorClass().name(), health.errorCode(),
+                        health.description(), health.consecutiveFailures(), health.suppressedAt()));
+            }
+        }
+        return suppressed;
+    }
+
+    /**
+     * Failure state of a single chat
+     */
+    private record RecipientHealth(int consecutiveFailures, ErrorClass errorClass, int errorCode,
+                                   String description, LocalDateTime suppressedAt) {
+
+        boolean isSuppressed() {
+            return suppressedAt != null;
+        }
+    }
+}
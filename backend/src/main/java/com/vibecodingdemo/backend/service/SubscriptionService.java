@@ -1,34 +1,57 @@
 package com.vibecodingdemo.backend.service;
 
+import com.vibecodingdemo.backend.dto.CursorPageDTO;
 import com.vibecodingdemo.backend.dto.SubscriptionDTO;
-import com.vibecodingdemo.backend.entity.Event;
-import com.vibecodingdemo.backend.entity.Subscription;
-import com.vibecodingdemo.backend.entity.User;
 import com.vibecodingdemo.backend.exception.AlreadySubscribedException;
 import com.vibecodingdemo.backend.exception.EventNotFoundException;
 import com.vibecodingdemo.backend.exception.NotSubscribedException;
 import com.vibecodingdemo.backend.repository.EventRepository;
 import com.vibecodingdemo.backend.repository.SubscriptionRepository;
 import com.vibecodingdemo.backend.repository.UserRepository;
+import com.vibecodingdemo.backend.util.CursorPagination;
+import org.hibernate.exception.ConstraintViolationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Optional;
+import java.util.Set;
 
 @Service
 public class SubscriptionService {
 
+    // Named in V1__baseline_schema.sql. Databases baselined without running V1, and the H2 test
+    // schema, have Hibernate-generated names instead; those are resolved by looking the user up
+    private static final String USER_FOREIGN_KEY = "fk_subscriptions_user";
+    private static final String EVENT_FOREIGN_KEY = "fk_subscriptions_event";
+
+    private static final Logger logger = LoggerFactory.getLogger(SubscriptionService.class);
+
     private final SubscriptionRepository subscriptionRepository;
     private final UserRepository userRepository;
     private final EventRepository eventRepository;
+    private final TransactionTemplate lookupTransactionTemplate;
 
     @Autowired
-    public SubscriptionService(SubscriptionRepository subscriptionRepository, UserRepository userRepository, EventRepository eventRepository) {
+    public SubscriptionService(SubscriptionRepository subscriptionRepository, UserRepository userRepository, EventRepository eventRepository,
+                               PlatformTransactionManager transactionManager) {
         this.subscriptionRepository = subscriptionRepository;
         this.userRepository = userRepository;
         this.eventRepository = eventRepository;
+        // A failed statement aborts the current transaction (PostgreSQL), so lookups after one need their own
+        this.lookupTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.lookupTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.lookupTransactionTemplate.setReadOnly(true);
     }
 
     /**
@@ -42,17 +65,43 @@ public class SubscriptionService {
             throw new IllegalArgumentException("Username cannot be null or empty");
         }
 
-        // Verify user exists
-        User user = userRepository.findByUsername(username.trim())
-                .orElseThrow(() -> new IllegalArgumentException("User not found: " + username));
+        List<SubscriptionDTO> subscriptions = subscriptionRepository.findDTOsByUsername(username.trim());
+
+        // Only an empty result needs the extra lookup to tell "no subscriptions" from "no user"
+        if (subscriptions.isEmpty()) {
+            verifyUserExists(username);
+        }
+
+        return subscriptions;
+    }
+
+    /**
+     * Get a keyset-paginated page of subscriptions for a user
+     * @param username the username to get subscriptions for
+     * @param after the ID of the last subscription of the previous page, or null for the first page
+     * @param limit the page size, or null for the default
+     * @param sort the ID sort direction ("asc" or "desc"), or null for ascending
+     * @param systemName optional exact system name filter on the subscribed event
+     * @return the requested page of SubscriptionDTOs
+     * @throws IllegalArgumentException if username is null/empty, or limit or sort are invalid
+     */
+    public CursorPageDTO<SubscriptionDTO> getUserSubscriptionsPage(String username, Long after, Integer limit,
+                                                                   String sort, String systemName) {
+        if (username == null || username.trim().isEmpty()) {
+            throw new IllegalArgumentException("Username cannot be null or empty");
+        }
+
+        int pageSize = CursorPagination.resolveLimit(limit);
+        Sort.Direction direction = CursorPagination.resolveDirection(sort);
+        long cursor = CursorPagination.resolveCursor(after, direction);
+        String systemFilter = CursorPagination.toFilter(systemName);
+        Pageable page = CursorPagination.overfetch(pageSize);
 
-        // Get all subscriptions for the user
-        List<Subscription> subscriptions = subscriptionRepository.findByUserUsername(username.trim());
+        List<SubscriptionDTO> subscriptions = direction.isAscending()
+                ? subscriptionRepository.findPageByUsernameAfterId(username.trim(), cursor, systemFilter, page)
+                : subscriptionRepository.findPageByUsernameBeforeId(username.trim(), cursor, systemFilter, page);
 
-        // Convert to DTOs
-        return subscriptions.stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return CursorPageDTO.fromOverfetched(subscriptions, pageSize, SubscriptionDTO::getId);
     }
 
     /**
@@ -71,96 +120,198 @@ public class SubscriptionService {
             throw new IllegalArgumentException("Event ID cannot be null");
         }
 
-        // Verify user exists
-        User user = userRepository.findByUsername(username.trim())
-                .orElseThrow(() -> new IllegalArgumentException("User not found: " + username));
+        if (subscriptionRepository.existsByUserUsernameAndEventId(username.trim(), eventId)) {
+            return true;
+        }
 
-        // Check if subscription exists
-        return subscriptionRepository.existsByUserIdAndEventId(user.getId(), eventId);
+        verifyUserExists(username);
+        return false;
     }
 
     /**
-     * Subscribe a user to an event
-     * @param username the username of the user to subscribe
+     * Subscribe a user to an event with a single insert statement.
+     * Neither the user nor the event is read first: a duplicate is detected by the unique
+     * (user_id, event_id) constraint and a missing event by the foreign key.
+     * @param userId the ID of the user to subscribe (taken from the authenticated principal)
      * @param eventId the ID of the event to subscribe to
      * @return the created SubscriptionDTO
-     * @throws IllegalArgumentException if username is null/empty or eventId is null
-     * @throws IllegalArgumentException if user is not found
+     * @throws IllegalArgumentException if userId or eventId is null, or the user does not exist
      * @throws EventNotFoundException if event is not found
      * @throws AlreadySubscribedException if user is already subscribed to the event
      */
     @Transactional
-    public SubscriptionDTO subscribeToEvent(String username, Long eventId) {
-        if (username == null || username.trim().isEmpty()) {
-            throw new IllegalArgumentException("Username cannot be null or empty");
+    public SubscriptionDTO subscribeToEvent(Long userId, Long eventId) {
+        if (userId == null) {
+            throw new IllegalArgumentException("User ID cannot be null");
         }
         
         if (eventId == null) {
             throw new IllegalArgumentException("Event ID cannot be null");
         }
 
-        // Verify user exists
-        User user = userRepository.findByUsername(username.trim())
-                .orElseThrow(() -> new IllegalArgumentException("User not found: " + username));
-
-        // Verify event exists
-        Event event = eventRepository.findById(eventId)
-                .orElseThrow(() -> new EventNotFoundException("Event not found with ID: " + eventId));
-
-        // Check if user is already subscribed
-        if (subscriptionRepository.existsByUserIdAndEventId(user.getId(), eventId)) {
-            throw new AlreadySubscribedException("User " + username + " is already subscribed to event ID: " + eventId);
+        Optional<SubscriptionDTO> created;
+        try {
+            created = subscriptionRepository.insertIfAbsent(userId, eventId);
+        } catch (DataIntegrityViolationException e) {
+            // The violated constraint, or failing that a lookup, tells which side is missing
+            if (isUserMissing(userId, e)) {
+                throw new IllegalArgumentException("User not found with ID: " + userId);
+            }
+            throw new EventNotFoundException("Event not found with ID: " + eventId);
         }
 
-        // Create and save subscription
-        Subscription subscription = new Subscription(user, event);
-        subscription = subscriptionRepository.save(subscription);
-
-        return convertToDTO(subscription);
+        return created.orElseThrow(() ->
+                new AlreadySubscribedException("User ID " + userId + " is already subscribed to event ID: " + eventId));
     }
 
     /**
-     * Unsubscribe a user from an event
-     * @param username the username of the user to unsubscribe
+     * Unsubscribe a user from an event with a single delete statement
+     * @param userId the ID of the user to unsubscribe (taken from the authenticated principal)
      * @param eventId the ID of the event to unsubscribe from
-     * @throws IllegalArgumentException if username is null/empty or eventId is null
-     * @throws IllegalArgumentException if user is not found
+     * @throws IllegalArgumentException if userId or eventId is null
      * @throws NotSubscribedException if user is not subscribed to the event
      */
     @Transactional
-    public void unsubscribeFromEvent(String username, Long eventId) {
-        if (username == null || username.trim().isEmpty()) {
-            throw new IllegalArgumentException("Username cannot be null or empty");
+    public void unsubscribeFromEvent(Long userId, Long eventId) {
+        if (userId == null) {
+            throw new IllegalArgumentException("User ID cannot be null");
         }
         
         if (eventId == null) {
             throw new IllegalArgumentException("Event ID cannot be null");
         }
 
-        // Verify user exists
-        User user = userRepository.findByUsername(username.trim())
-                .orElseThrow(() -> new IllegalArgumentException("User not found: " + username));
+        if (subscriptionRepository.deleteByUserIdAndEventId(userId, eventId) == 0) {
+            throw new NotSubscribedException("User ID " + userId + " is not subscribed to event ID: " + eventId);
+        }
+    }
+
+    /**
+     * Make the user's subscriptions exactly match the given set of events.
+     * The difference to the current state is computed here and applied in one transaction
+     * with a single batched insert and a single delete, however many events change.
+     * @param userId the ID of the user (taken from the authenticated principal)
+     * @param eventIds the complete set of events the user should be subscribed to
+     * @return the user's subscriptions after the change
+     * @throws IllegalArgumentException if userId or eventIds is null
+     * @throws EventNotFoundException if any of the events does not exist
+     */
+    @Transactional
+    public List<SubscriptionDTO> replaceSubscriptions(Long userId, Set<Long> eventIds) {
+        if (eventIds == null) {
+            throw new IllegalArgumentException("Event IDs cannot be null");
+        }
+
+        Set<Long> current = subscriptionRepository.findEventIdsByUserId(requireUserId(userId));
 
-        // Find the subscription
-        Subscription subscription = subscriptionRepository.findByUserIdAndEventId(user.getId(), eventId)
-                .orElseThrow(() -> new NotSubscribedException("User " + username + " is not subscribed to event ID: " + eventId));
+        Set<Long> toAdd = new LinkedHashSet<>(eventIds);
+        toAdd.removeAll(current);
+        Set<Long> toRemove = new LinkedHashSet<>(current);
+        toRemove.removeAll(eventIds);
 
-        // Delete the subscription
-        subscriptionRepository.delete(subscription);
+        return applyChanges(userId, toAdd, toRemove);
     }
 
     /**
-     * Convert a Subscription entity to SubscriptionDTO
-     * @param subscription the subscription entity to convert
-     * @return the converted SubscriptionDTO
+     * Subscribe to and unsubscribe from several events at once, leaving others unchanged.
+     * Already existing subscriptions and missing ones to remove are ignored.
+     * @param userId the ID of the user (taken from the authenticated principal)
+     * @param subscribe the events to subscribe to
+     * @param unsubscribe the events to unsubscribe from
+     * @return the user's subscriptions after the change
+     * @throws IllegalArgumentException if an argument is null or an event is in both sets
+     * @throws EventNotFoundException if any of the events to subscribe to does not exist
      */
-    private SubscriptionDTO convertToDTO(Subscription subscription) {
-        return new SubscriptionDTO(
-                subscription.getId(),
-                subscription.getEvent().getId(),
-                subscription.getEvent().getEventName(),
-                subscription.getEvent().getSystemName(),
-                true // subscribed is always true for existing subscriptions
-        );
+    @Transactional
+    public List<SubscriptionDTO> updateSubscriptions(Long userId, Set<Long> subscribe, Set<Long> unsubscribe) {
+        if (subscribe == null || unsubscribe == null) {
+            throw new IllegalArgumentException("Subscribe and unsubscribe lists cannot be null");
+        }
+
+        Set<Long> conflicting = new LinkedHashSet<>(subscribe);
+        conflicting.retainAll(unsubscribe);
+        if (!conflicting.isEmpty()) {
+            throw new IllegalArgumentException("Events cannot be both subscribed and unsubscribed: " + conflicting);
+        }
+
+        Set<Long> current = subscriptionRepository.findEventIdsByUserId(requireUserId(userId));
+
+        Set<Long> toAdd = new LinkedHashSet<>(subscribe);
+        toAdd.removeAll(current);
+        Set<Long> toRemove = new LinkedHashSet<>(unsubscribe);
+        toRemove.retainAll(current);
+
+        return applyChanges(userId, toAdd, toRemove);
+    }
+
+    private List<SubscriptionDTO> applyChanges(Long userId, Set<Long> toAdd, Set<Long> toRemove) {
+        if (!toAdd.isEmpty()) {
+            Set<Long> missing = new LinkedHashSet<>(toAdd);
+            missing.removeAll(eventRepository.findExistingIds(toAdd));
+            if (!missing.isEmpty()) {
+                throw new EventNotFoundException("Events not found with IDs: " + missing);
+            }
+
+            try {
+                subscriptionRepository.batchInsert(userId, toAdd);
+            } catch (DataIntegrityViolationException e) {
+                // Another request changed the same subscriptions, or an event was deleted, meanwhile
+                if (isUniqueViolation(e)) {
+                    throw new AlreadySubscribedException("Subscriptions of user ID " + userId + " were changed concurrently");
+                }
+                throw new EventNotFoundException("Events not found among IDs: " + toAdd);
+            }
+        }
+
+        if (!toRemove.isEmpty()) {
+            subscriptionRepository.deleteByUserIdAndEventIdIn(userId, toRemove);
+        }
+
+        logger.debug("Updated subscriptions of user ID {}: {} added, {} removed", userId, toAdd.size(), toRemove.size());
+        return subscriptionRepository.findDTOsByUserId(userId);
+    }
+
+    private static Long requireUserId(Long userId) {
+        if (userId == null) {
+            throw new IllegalArgumentException("User ID cannot be null");
+        }
+        return userId;
+    }
+
+    private static boolean isUniqueViolation(DataIntegrityViolationException e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof ConstraintViolationException violation) {
+                return violation.getKind() == ConstraintViolationException.ConstraintKind.UNIQUE;
+            }
+        }
+        return false;
+    }
+
+    private boolean isUserMissing(Long userId, DataIntegrityViolationException e) {
+        String constraintName = null;
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof ConstraintViolationException violation) {
+                constraintName = violation.getConstraintName();
+                break;
+            }
+        }
+        if (USER_FOREIGN_KEY.equalsIgnoreCase(constraintName)) {
+            return true;
+        }
+        if (EVENT_FOREIGN_KEY.equalsIgnoreCase(constraintName)) {
+            return false;
+        }
+        return !Boolean.TRUE.equals(lookupTransactionTemplate.execute(status -> userRepository.existsById(userId)));
+    }
+
+    /**
+     * Verify that a user exists
+     * @param username the username to check
+     * @throws IllegalArgumentException if user is not found
+     */
+    private void verifyUserExists(String username) {
+        if (!userRepository.existsByUsername(username.trim())) {
+            throw new IllegalArgumentException("User not found: " + username);
+        }
     }
-} 
\ No newline at end of file
+}
@@ -10,8 +10,8 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.retry.annotation.Backoff;
-import org.springframework.retry.annotation.Retryable;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.RestClientException;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -30,11 +30,17 @@ public class TelegramBotService {
     @Value("${telegram.bot.username}")
     private String botUsername;
     
+    /**
+     * Bot API base URL; overridden to point at a local stub in load tests
+     */
+    @Value("${telegram.api.base-url:" + DEFAULT_API_BASE_URL + "}")
+    private String apiBaseUrl = DEFAULT_API_BASE_URL;
+    
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
     private final UserService userService;
     
-    private static final String TELEGRAM_API_URL = "https://api.telegram.org/bot";
+    private static final String DEFAULT_API_BASE_URL = "https://api.telegram.org";
     
     public TelegramBotService(UserService userService) {
         this.restTemplate = new RestTemplate();
@@ -44,25 +50,31 @@ public class TelegramBotService {
     }
     
     /**
-     * Send a message to a Telegram chat
+     * Send a message to a Telegram chat. Makes a single attempt; notification fan-out
+     * goes through {@link TelegramDeliveryScheduler}, which retries where appropriate.
      * @param chatId the chat ID to send the message to
      * @param message the message content (can be JSON string or plain text)
      * @return true if message was sent successfully, false otherwise
      */
-    @Retryable(
-        value = {Exception.class},
-        maxAttempts = 3,
-        backoff = @Backoff(delay = 1000, multiplier = 2.0)
-    )
     public boolean sendMessage(String chatId, String message) {
+        return trySendMessage(chatId, message).isDelivered();
+    }
+    
+    /**
+     * Make a single attempt to send a message to a Telegram chat and classify the outcome
+     * @param chatId the chat ID to send the message to
+     * @param message the message content (can be JSON string or plain text)
+     * @return the classified result; never throws for API or network errors
+     */
+    public TelegramSendResult trySendMessage(String chatId, String message) {
         try {
-            logger.info("Attempting to send message to chat ID: {}", chatId);
+            logger.debug("Attempting to send message to chat ID: {}", chatId);
             
             // Format message if it's JSON
             String formattedMessage = formatMessage(message);
             
             // Prepare the request
-            String url = TELEGRAM_API_URL + botToken + "/sendMessage";
+            String url = apiBaseUrl + "/bot" + botToken + "/sendMessage";
             
             Map<String, Object> requestBody = new HashMap<>();
             requestBody.put("chat_id", chatId);
@@ -83,18 +95,27 @@ public class TelegramBotService {
             );
             
             if (response.getStatusCode().is2xxSuccessful()) {
-                logger.info("Message sent successfully to chat ID: {}", chatId);
-                return true;
-            } else {
-                logger.error("Failed to send message. Status: {}, Response: {}", 
-                    response.getStatusCode(), response.getBody());
-                return false;
+                logger.debug("Message sent successfully to chat ID: {}", chatId);
+                return TelegramSendResult.delivered();
             }
+            return logFailure(chatId, TelegramSendResult.fromErrorResponse(
+                response.getStatusCode().value(), response.getBody(), objectMapper));
             
-        } catch (Exception e) {
-            logger.error("Error sending message to chat ID {}: {}", chatId, e.getMessage(), e);
-            throw e; // Re-throw to trigger retry mechanism
+        } catch (HttpStatusCodeException e) {
+            return logFailure(chatId, TelegramSendResult.fromErrorResponse(
+                e.getStatusCode().value(), e.getResponseBodyAsString(), objectMapper));
+        } catch (RestClientException e) {
+            return logFailure(chatId, TelegramSendResult.transientFailure(e.getMessage()));
+        }
+    }
+    
+    private TelegramSendResult logFailure(String chatId, TelegramSendResult result) {
+        if (result.isRetryable()) {
+            logger.warn("Failed to send message to chat ID {} (retryable): {}", chatId, result);
+        } else {
+            logger.error("Failed to send message to chat ID {}: {}", chatId, result);
         }
+        return result;
     }
     
     /**
@@ -134,7 +155,7 @@ public class TelegramBotService {
      * @param message the original message
      * @return formatted message
      */
-    private String formatMessage(String message) {
+    String formatMessage(String message) {
         if (message == null || message.trim().isEmpty()) {
             return message;
         }
@@ -163,7 +184,7 @@ public class TelegramBotService {
      * @param sb the StringBuilder to append to
      * @param prefix the prefix for indentation
      */
-    private void formatJsonNode(JsonNode node, StringBuilder sb, String prefix) {
+    void formatJsonNode(JsonNode node, StringBuilder sb, String prefix) {
         if (node.isObject()) {
             node.fields().forEachRemaining(entry -> {
                 String key = entry.getKey();
@@ -198,7 +219,7 @@ public class TelegramBotService {
      * @param text the text to escape
      * @return escaped text
      */
-    private String escapeHtml(String text) {
+    String escapeHtml(String text) {
         if (text == null) {
             return "";
         }
@@ -0,0 +1,211 @@
+package com.vibecodingdemo.backend.service;
+
+import com.vibecodingdemo.backend.config.ThreadingConfig;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Delivers notification messages to Telegram chats through the {@link NotificationTransport},
+ * retrying failed sends without blocking.
+ * <p>
+ * The first attempt runs on the calling thread. Retryable failures (rate limiting, 5xx, I/O)
+ * are put on a single timer thread that only waits; when a retry is due it is handed to the
+ * delivery executor, so no thread sleeps through a backoff. Rate-limited sends wait for the
+ * {@code retry_after} Telegram asks for, other failures back off exponentially. Permanent
+ * failures are not retried and count against the chat in the {@link RecipientHealthRegistry};
+ * chats it has suppressed are skipped without calling Telegram.
+ * <p>
+ * Every attempt, first or retry, holds one of {@code telegram.delivery.max-concurrency} send
+ * permits while it calls the transport, so a storm of retries cannot exceed the cap either.
+ * <p>
+ * Every attempt is observed as a {@code telegram.send} span, a child of the observation that
+ * was current when the delivery started, so retries show up in the same trace.
+ */
+@Service
+public class TelegramDeliveryScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(TelegramDeliveryScheduler.class);
+
+    /**
+     * Status of a delivery after its first attempt
+     */
+    public enum DeliveryStatus {
+        DELIVERED,
+        RETRY_SCHEDULED,
+        FAILED,
+        /** Not attempted: the chat is suppressed in the {@link RecipientHealthRegistry} */
+        SUPPRESSED
+    }
+
+    private final NotificationTransport transport;
+    private final RecipientHealthRegistry recipientHealthRegistry;
+    private final ExecutorService deliveryExecutor;
+    private final ObservationRegistry observationRegistry;
+    private final NotificationLogSummary logSummary;
+    private final int maxAttempts;
+    private final long initialBackoffMs;
+    private final long maxBackoffMs;
+    private final Semaphore sendPermits;
+
+    private final ScheduledExecutorService retryTimer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "telegram-retry-timer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Autowired
+    public TelegramDeliveryScheduler(NotificationTransport transport,
+                                     RecipientHealthRegistry recipientHealthRegistry,
+                                     @Qualifier(ThreadingConfig.TELEGRAM_DELIVERY_EXECUTOR) ExecutorService deliveryExecutor,
+                                     ObservationRegistry observationRegistry,
+                                     NotificationLogSummary logSummary,
+                                     @Value("${telegram.delivery.max-attempts:3}") int maxAttempts,
+                                     @Value("${telegram.delivery.initial-backoff-ms:1000}") long initialBackoffMs,
+                                     @Value("${telegram.delivery.max-backoff-ms:60000}") long maxBackoffMs,
+                                     @Value("${telegram.delivery.max-concurrency:16}") int maxConcurrency) {
+        this.transport = transport;
+        this.recipientHealthRegistry = recipientHealthRegistry;
+        this.deliveryExecutor = deliveryExecutor;
+        this.observationRegistry = observationRegistry;
+        this.logSummary = logSummary;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMs = initialBackoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+        this.sendPermits = new Semaphore(maxConcurrency);
+    }
+
+    /**
+     * Send a message, scheduling retries in the background if the first attempt fails
+     * with a retryable error
+     * @param chatId the chat ID
+     * @param message the message content
+     * @return the status after the first attempt
+     */
+    public DeliveryStatus deliver(String chatId, String message) {
+        return attempt(chatId, message, 1, observationRegistry.getCurrentObservation());
+    }
+
+    private DeliveryStatus attempt(String chatId, String message, int attempt, Observation parentObservation) {
+        DeliveryStatus status = attemptOnce(chatId, message, attempt, parentObservation);
+        // The caller only saw RETRY_SCHEDULED; report how the delivery finally ended
+        if (attempt > 1 && status != DeliveryStatus.RETRY_SCHEDULED) {
+            reportRetryOutcome(chatId, attempt, status);
+        }
+        return status;
+    }
+
+    private DeliveryStatus attemptOnce(String chatId, String message, int attempt, Observation parentObservation) {
+        // Also checked before retries, in case the chat was suppressed in the meantime
+        if (recipientHealthRegistry.isSuppressed(chatId)) {
+            logger.debug("Skipping message to suppressed chat ID {}", chatId);
+            return DeliveryStatus.SUPPRESSED;
+        }
+
+        TelegramSendResult result;
+        try {
+            sendPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return DeliveryStatus.FAILED;
+        }
+        try {
+            result = send(chatId, message, attempt, parentObservation);
+        } finally {
+            sendPermits.release();
+        }
+        if (result.isDelivered()) {
+            recipientHealthRegistry.recordSuccess(chatId);
+            return DeliveryStatus.DELIVERED;
+        }
+
+        if (!result.isRetryable()) {
+            recipientHealthRegistry.recordFailure(chatId, result);
+            return DeliveryStatus.FAILED;
+        }
+
+        if (attempt >= maxAttempts) {
+            logger.warn("Giving up on message to chat ID {} after {} attempts: {}", chatId, attempt, result);
+            return DeliveryStatus.FAILED;
+        }
+
+        long delayMs = retryDelayMs(result, attempt);
+        try {
+            retryTimer.schedule(() -> dispatchRetry(chatId, message, attempt + 1, parentObservation),
+                    delayMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // Shutting down
+            return DeliveryStatus.FAILED;
+        }
+        logger.debug("Scheduled retry {} of message to chat ID {} in {} ms", attempt + 1, chatId, delayMs);
+        return DeliveryStatus.RETRY_SCHEDULED;
+    }
+
+    private void reportRetryOutcome(String chatId, int attempt, DeliveryStatus status) {
+        logSummary.recordRetryOutcome(status);
+        logger.debug("Retried message to chat ID {} finished as {} on attempt {}", chatId, status, attempt);
+    }
+
+    private TelegramSendResult send(String chatId, String message, int attempt, Observation parentObservation) {
+        Observation observation = Observation.createNotStarted("telegram.send", observationRegistry)
+                .parentObservation(parentObservation)
+                .lowCardinalityKeyValue("attempt", String.valueOf(attempt))
+                .highCardinalityKeyValue("chat.id", chatId)
+                .start();
+        try (Observation.Scope scope = observation.openScope()) {
+            TelegramSendResult result = transport.send(chatId, message);
+            observation.lowCardinalityKeyValue("outcome", result.getOutcome().name());
+            return result;
+        } catch (RuntimeException e) {
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.stop();
+        }
+    }
+
+    private void dispatchRetry(String chatId, String message, int attempt, Observation parentObservation) {
+        try {
+            deliveryExecutor.execute(() -> {
+                try {
+                    attempt(chatId, message, attempt, parentObservation);
+                } catch (Exception e) {
+                    logger.error("Retry {} of message to chat ID {} failed: {}", attempt, chatId, e.getMessage(), e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            logger.warn("Dropping retry {} of message to chat ID {}: delivery executor is shut down", attempt, chatId);
+        }
+    }
+
+    /**
+     * Delay before the next attempt: Telegram's {@code retry_after} for rate limiting,
+     * otherwise exponential backoff (1s, 2s, 4s, ... by default)
+     */
+    long retryDelayMs(TelegramSendResult result, int attempt) {
+        Duration retryAfter = result.getRetryAfter();
+        long delayMs = retryAfter != null
+                ? retryAfter.toMillis()
+                : initialBackoffMs << Math.min(attempt - 1, 20);
+        return Math.min(delayMs, maxBackoffMs);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        retryTimer.shutdownNow();
+    }
+}
@@ -0,0 +1,159 @@
+package com.vibecodingdemo.backend.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Classified outcome of a single Telegram Bot API call.
+ * <p>
+ * Telegram reports errors as {@code {"ok":false,"error_code":403,"description":"...",
+ * "parameters":{"retry_after":5}}}. The classification decides whether a send is retried:
+ * <ul>
+ *   <li>429 is rate limiting and is retried after {@code retry_after}</li>
+ *   <li>5xx and I/O errors are transient and retried with backoff</li>
+ *   <li>any other error is permanent; 403 and "chat not found" additionally mean the
+ *       recipient is gone and should not be messaged again</li>
+ * </ul>
+ */
+public final class TelegramSendResult {
+
+    /**
+     * Outcome class of a send attempt
+     */
+    public enum Outcome {
+        DELIVERED,
+        RATE_LIMITED,
+        TRANSIENT_FAILURE,
+        PERMANENT_FAILURE
+    }
+
+    private static final Duration DEFAULT_RETRY_AFTER = Duration.ofSeconds(1);
+    private static final TelegramSendResult DELIVERED = new TelegramSendResult(Outcome.DELIVERED, 200, null, null, false);
+
+    private final Outcome outcome;
+    private final int errorCode;
+    private final String description;
+    private final Duration retryAfter;
+    private final boolean recipientGone;
+
+    private TelegramSendResult(Outcome outcome, int errorCode, String description, Duration retryAfter,
+                               boolean recipientGone) {
+        this.outcome = outcome;
+        this.errorCode = errorCode;
+        this.description = description;
+        this.retryAfter = retryAfter;
+        this.recipientGone = recipientGone;
+    }
+
+    public static TelegramSendResult delivered() {
+        return DELIVERED;
+    }
+
+    /**
+     * A failure without an HTTP response, e.g. a connection reset or timeout
+     * @param description what went wrong
+     * @return a transient failure
+     */
+    public static TelegramSendResult transientFailure(String description) {
+        return new TelegramSendResult(Outcome.TRANSIENT_FAILURE, 0, description, null, false);
+    }
+
+    /**
+     * Classify an unsuccessful Bot API response
+     * @param httpStatus the HTTP status code
+     * @param body the response body, may be null or not JSON
+     * @param objectMapper used to parse the body
+     * @return the classified result
+     */
+    public static TelegramSendResult fromErrorResponse(int httpStatus, String body, ObjectMapper objectMapper) {
+        int errorCode = httpStatus;
+        String description = null;
+        Duration retryAfter = null;
+
+        if (body != null && !body.isBlank()) {
+            try {
+                JsonNode json = objectMapper.readTree(body);
+                errorCode = json.path("error_code").asInt(httpStatus);
+                description = json.path("description").asText(null);
+                JsonNode retryAfterNode = json.path("parameters").path("retry_after");
+                if (retryAfterNode.canConvertToInt()) {
+                    retryAfter = Duration.ofSeconds(retryAfterNode.asInt());
+                }
+            } catch (Exception e) {
+                description = body;
+            }
+        }
+
+        if (errorCode == 429) {
+            return new TelegramSendResult(Outcome.RATE_LIMITED, errorCode, description,
+                    retryAfter != null ? retryAfter : DEFAULT_RETRY_AFTER, false);
+        }
+        if (errorCode >= 500) {
+            return new TelegramSendResult(Outcome.TRANSIENT_FAILURE, errorCode, description, null, false);
+        }
+        return new TelegramSendResult(Outcome.PERMANENT_FAILURE, errorCode, description, null,
+                isRecipientGone(errorCode, description));
+    }
+
+    private static boolean isRecipientGone(int errorCode, String description) {
+        if (errorCode == 403) {
+            // "bot was blocked by the user", "user is deactivated", "bot was kicked from the group chat"
+            return true;
+        }
+        if (errorCode == 400 && description != null) {
+            String lower = description.toLowerCase(Locale.ROOT);
+            return lower.contains("chat not found") || lower.contains("user not found");
+        }
+        return false;
+    }
+
+    public Outcome getOutcome() {
+        return outcome;
+    }
+
+    public boolean isDelivered() {
+        return outcome == Outcome.DELIVERED;
+    }
+
+    public boolean isRetryable() {
+        return outcome == Outcome.RATE_LIMITED || outcome == Outcome.TRANSIENT_FAILURE;
+    }
+
+    /**
+     * Whether the chat can never be reached again (blocked bot, deleted chat)
+     */
+    public boolean isRecipientGone() {
+        return recipientGone;
+    }
+
+    /**
+     * Telegram {@code error_code}, the HTTP status if the body had none, or 0 for I/O errors
+     */
+    public int getErrorCode() {
+        return errorCode;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Delay requested by Telegram for rate-limited calls, null otherwise
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    @Override
+    public String toString() {
+        return "TelegramSendResult{" +
+                "outcome=" + outcome +
+                ", errorCode=" + errorCode +
+                ", description='" + description + '\'' +
+                ", retryAfter=" + retryAfter +
+                '}';
+    }
+}
@@ -3,14 +3,15 @@ package com.vibecodingdemo.backend.service;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.vibecodingdemo.backend.entity.User;
 import com.vibecodingdemo.backend.repository.UserRepository;
+import com.vibecodingdemo.backend.security.AuthenticatedUser;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.core.userdetails.User.UserBuilder;
 import org.springframework.stereotype.Service;
 
 import java.security.SecureRandom;
@@ -80,15 +81,13 @@ public class UserService implements UserDetailsService {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
 
-        UserBuilder builder = org.springframework.security.core.userdetails.User.withUsername(user.getUsername());
-        // Since we don't have passwords in our MVP, we'll use a placeholder
-        builder.password("{noop}"); // {noop} means no password encoder
-        
         // Set authorities based on user role
         String authority = user.getRole() == User.Role.ADMIN ? "ADMIN" : "USER";
-        builder.authorities(authority);
 
-        return builder.build();
+        // Since we don't have passwords in our MVP, we'll use a placeholder
+        // ({noop} means no password encoder). The user ID travels with the principal.
+        return new AuthenticatedUser(user.getId(), user.getUsername(), "{noop}",
+                List.of(new SimpleGrantedAuthority(authority)));
     }
 
     /**
@@ -0,0 +1,170 @@
+package com.vibecodingdemo.backend.service.impl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Owns the dynamically created Kafka listener containers, one per topic.
+ * <p>
+ * Starting a container and shutting the registry down are guarded by one lock: a start either
+ * completes before shutdown, and its container is stopped with the others, or sees the registry
+ * stopped and fails. Concurrent start requests for the same topic can never produce two
+ * consumers. Stopping removes the entry first and then stops the container outside the lock,
+ * which lets the consumer finish the records it has already polled and commit their offsets
+ * before it leaves the group.
+ * <p>
+ * As a {@link SmartLifecycle} the registry stops all containers in parallel when the application
+ * context shuts down, and refuses to start new ones from then on.
+ */
+@Component
+public class KafkaListenerContainerRegistry implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(KafkaListenerContainerRegistry.class);
+
+    private static final String CONTAINER_ID_PREFIX = "dynamic-listener-";
+
+    private final ConcurrentMap<String, MessageListenerContainer> topicToContainerMap = new ConcurrentHashMap<>();
+    private final long shutdownTimeoutMs;
+    // Guards running and the registration of new containers
+    private final Object lifecycleLock = new Object();
+
+    private volatile boolean running;
+
+    public KafkaListenerContainerRegistry(@Value("${kafka.listener.shutdown-timeout-ms:10000}") long shutdownTimeoutMs) {
+        this.shutdownTimeoutMs = shutdownTimeoutMs;
+    }
+
+    /**
+     * Get the container ID used for a topic. IDs are stable so that logs, metrics and
+     * consumer client IDs can be correlated across restarts.
+     * @param topic the topic name
+     * @return the container ID
+     */
+    public static String containerId(String topic) {
+        return CONTAINER_ID_PREFIX + topic;
+    }
+
+    /**
+     * Create and start a container for the topic unless one is already registered
+     * @param topic the topic name
+     * @param containerFactory creates an unstarted container for the topic
+     * @return true if a new container was started, false if the topic already had one
+     * @throws IllegalStateException if the registry has been shut down
+     */
+    public boolean startIfAbsent(String topic, Function<String, MessageListenerContainer> containerFactory) {
+        synchronized (lifecycleLock) {
+            if (!running) {
+                throw new IllegalStateException("Kafka listener registry is not running");
+            }
+            if (topicToContainerMap.containsKey(topic)) {
+                return false;
+            }
+
+            MessageListenerContainer container = containerFactory.apply(topic);
+            // If start() throws, no mapping is recorded
+            container.start();
+            topicToContainerMap.put(topic, container);
+            return true;
+        }
+    }
+
+    /**
+     * Stop and remove the container for the topic, waiting for in-flight records to be
+     * processed and committed
+     * @param topic the topic name
+     * @return true if a container was stopped, false if the topic had none
+     */
+    public boolean stop(String topic) {
+        MessageListenerContainer container = topicToContainerMap.remove(topic);
+        if (container == null) {
+            return false;
+        }
+        container.stop();
+        return true;
+    }
+
+    /**
+     * Check whether the topic has a registered container
+     * @param topic the topic name
+     * @return true if a container is registered
+     */
+    public boolean contains(String topic) {
+        return topicToContainerMap.containsKey(topic);
+    }
+
+    /**
+     * Get the topics with a registered container
+     * @return an immutable snapshot of the topics
+     */
+    public Set<String> getTopics() {
+        return Set.copyOf(topicToContainerMap.keySet());
+    }
+
+    @Override
+    public void start() {
+        synchronized (lifecycleLock) {
+            running = true;
+        }
+    }
+
+    @Override
+    public void stop() {
+        List<MessageListenerContainer> containers;
+        // Waits for a start in progress, whose container is then stopped with the others
+        synchronized (lifecycleLock) {
+            running = false;
+            containers = List.copyOf(topicToContainerMap.values());
+            topicToContainerMap.clear();
+        }
+        if (containers.isEmpty()) {
+            return;
+        }
+
+        logger.info("Stopping {} Kafka listener containers", containers.size());
+        CountDownLatch stopped = new CountDownLatch(containers.size());
+        for (MessageListenerContainer container : containers) {
+            try {
+                // Asynchronous stop, so all containers drain in parallel
+                container.stop(stopped::countDown);
+            } catch (Exception e) {
+                logger.error("Failed to stop Kafka listener container '{}': {}",
+                        container.getListenerId(), e.getMessage(), e);
+                stopped.countDown();
+            }
+        }
+
+        try {
+            if (!stopped.await(shutdownTimeoutMs, TimeUnit.MILLISECONDS)) {
+                logger.warn("Timed out after {} ms waiting for {} Kafka listener containers to stop",
+                        shutdownTimeoutMs, stopped.getCount());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Stop before Spring Kafka's own containers and before the beans the listeners depend on
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE;
+    }
+}
@@ -1,6 +1,7 @@
 package com.vibecodingdemo.backend.service.impl;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vibecodingdemo.backend.config.ThreadingConfig;
 import com.vibecodingdemo.backend.dto.KafkaMessageDTO;
 import com.vibecodingdemo.backend.entity.Event;
 import com.vibecodingdemo.backend.entity.Subscription;
@@ -8,76 +9,71 @@ import com.vibecodingdemo.backend.entity.User;
 import com.vibecodingdemo.backend.repository.EventRepository;
 import com.vibecodingdemo.backend.repository.SubscriptionRepository;
 import com.vibecodingdemo.backend.service.KafkaListenerService;
-import com.vibecodingdemo.backend.service.TelegramBotService;
-import org.apache.kafka.clients.consumer.ConsumerRecord;
+import com.vibecodingdemo.backend.service.NotificationFanOutPlanner;
+import com.vibecodingdemo.backend.service.NotificationLogSummary;
+import com.vibecodingdemo.backend.service.TelegramDeliveryScheduler;
+import com.vibecodingdemo.backend.service.TelegramDeliveryScheduler.DeliveryStatus;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
-import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
 import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
 import org.springframework.kafka.listener.MessageListener;
-import org.springframework.kafka.support.TopicPartitionOffset;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
 
 @Service
 public class KafkaListenerServiceImpl implements KafkaListenerService {
 
     private static final Logger logger = LoggerFactory.getLogger(KafkaListenerServiceImpl.class);
 
-    private final KafkaListenerEndpointRegistry endpointRegistry;
+    private final KafkaListenerContainerRegistry containerRegistry;
     private final ConcurrentKafkaListenerContainerFactory<String, String> containerFactory;
     private final EventRepository eventRepository;
     private final SubscriptionRepository subscriptionRepository;
-    private final TelegramBotService telegramBotService;
+    private final TelegramDeliveryScheduler deliveryScheduler;
+    private final NotificationFanOutPlanner fanOutPlanner;
+    private final NotificationLogSummary logSummary;
     private final ObjectMapper objectMapper;
-    
-    // Keep track of active containers by topic
-    private final ConcurrentMap<String, ConcurrentMessageListenerContainer<String, String>> topicToContainerMap = new ConcurrentHashMap<>();
-
-    /**
-     * Simple data holder for user notification information
-     * to avoid Hibernate lazy loading issues
-     */
-    private static class UserNotificationData {
-        private final String username;
-        private final String telegramChatId;
-        private final String telegramRecipients;
-        
-        public UserNotificationData(String username, String telegramChatId, String telegramRecipients) {
-            this.username = username;
-            this.telegramChatId = telegramChatId;
-            this.telegramRecipients = telegramRecipients;
-        }
-        
-        public String getUsername() { return username; }
-        public String getTelegramChatId() { return telegramChatId; }
-        public String getTelegramRecipients() { return telegramRecipients; }
-    }
+    private final ExecutorService deliveryExecutor;
+    private final ObservationRegistry observationRegistry;
 
     @Autowired
     public KafkaListenerServiceImpl(
-            KafkaListenerEndpointRegistry endpointRegistry,
+            KafkaListenerContainerRegistry containerRegistry,
             ConcurrentKafkaListenerContainerFactory<String, String> containerFactory,
             EventRepository eventRepository,
             SubscriptionRepository subscriptionRepository,
-            TelegramBotService telegramBotService) {
-        this.endpointRegistry = endpointRegistry;
+            TelegramDeliveryScheduler deliveryScheduler,
+            NotificationFanOutPlanner fanOutPlanner,
+            NotificationLogSummary logSummary,
+            @Qualifier(ThreadingConfig.TELEGRAM_DELIVERY_EXECUTOR) ExecutorService deliveryExecutor,
+            ObservationRegistry observationRegistry) {
+        this.containerRegistry = containerRegistry;
         this.containerFactory = containerFactory;
         this.eventRepository = eventRepository;
         this.subscriptionRepository = subscriptionRepository;
-        this.telegramBotService = telegramBotService;
+        this.deliveryScheduler = deliveryScheduler;
+        this.fanOutPlanner = fanOutPlanner;
+        this.logSummary = logSummary;
         this.objectMapper = new ObjectMapper();
+        this.deliveryExecutor = deliveryExecutor;
+        this.observationRegistry = observationRegistry;
     }
 
     @Override
@@ -86,37 +82,19 @@ public class KafkaListenerServiceImpl implements KafkaListenerService {
             logger.warn("Cannot start listening to null or empty topic");
             return false;
         }
+        if (!containerRegistry.isRunning()) {
+            logger.info("Not starting listener for topic {}: application is shutting down", topic);
+            return false;
+        }
 
         try {
-            // Create a new message listener container
-            ConcurrentMessageListenerContainer<String, String> container = 
-                containerFactory.createContainer(topic);
-            
-            // Set the container ID for tracking
-            container.setBeanName(generateContainerId(topic));
-            
-            // Set up the message listener
-            container.setupMessageListener(new MessageListener<String, String>() {
-                @Override
-                public void onMessage(ConsumerRecord<String, String> record) {
-                    try {
-                        logger.debug("Received message from topic {}: {}", record.topic(), record.value());
-                        processMessage(record.topic(), record.value());
-                    } catch (Exception e) {
-                        logger.error("Error processing message from topic {}: {}", record.topic(), e.getMessage(), e);
-                        throw e; // Re-throw to trigger error handler
-                    }
-                }
-            });
-
-            // Start the container directly
-            container.start();
-            
-            // Track the container
-            topicToContainerMap.put(topic, container);
-            
-            logger.info("Successfully started listening to topic: {}", topic);
-            return true;
+            boolean started = containerRegistry.startIfAbsent(topic, this::createContainer);
+            if (started) {
+                logger.info("Successfully started listening to topic: {}", topic);
+            } else {
+                logger.info("Already listening to topic: {}", topic);
+            }
+            return started;
             
         } catch (Exception e) {
             logger.error("Failed to start listening to topic {}: {}", topic, e.getMessage(), e);
@@ -131,21 +109,15 @@ public class KafkaListenerServiceImpl implements KafkaListenerService {
             return false;
         }
 
-        ConcurrentMessageListenerContainer<String, String> container = topicToContainerMap.get(topic);
-        if (container == null) {
-            logger.info("Not currently listening to topic: {}", topic);
-            return false;
-        }
-
         try {
-            // Stop the container
-            container.stop();
-            
-            logger.info("Successfully stopped listening to topic: {}", topic);
-            
-            // Remove from tracking map
-            topicToContainerMap.remove(topic);
-            return true;
+            // Blocks until in-flight records are processed and their offsets committed
+            boolean stopped = containerRegistry.stop(topic);
+            if (stopped) {
+                logger.info("Successfully stopped listening to topic: {}", topic);
+            } else {
+                logger.info("Not currently listening to topic: {}", topic);
+            }
+            return stopped;
             
         } catch (Exception e) {
             logger.error("Failed to stop listening to topic {}: {}", topic, e.getMessage(), e);
@@ -156,7 +128,8 @@ public class KafkaListenerServiceImpl implements KafkaListenerService {
     @Override
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void processMessage(String topic, String message) {
-        logger.info("Processing message from topic '{}': {}", topic, message);
+        // Message bodies and per-message results are DEBUG only; NotificationLogSummary logs the totals
+        logger.debug("Processing message from topic '{}': {}", topic, message);
         
         try {
             // 1. Parse the JSON message
@@ -164,9 +137,11 @@ public class KafkaListenerServiceImpl implements KafkaListenerService {
             logger.debug("Parsed Kafka message: {}", kafkaMessage);
             
             // 2. Find the event associated with this topic
-            Optional<Event> eventOpt = eventRepository.findByKafkaTopic(topic);
+            Optional<Event> eventOpt = observe("notification.event.lookup", topic,
+                () -> eventRepository.findByKafkaTopic(topic));
             if (eventOpt.isEmpty()) {
                 logger.warn("No event found for topic '{}'. Skipping message processing.", topic);
+                logSummary.recordSkippedMessage();
                 return;
             }
             
@@ -174,52 +149,83 @@ public class KafkaListenerServiceImpl implements KafkaListenerService {
             logger.debug("Found event: {} for topic: {}", event.getId(), topic);
             
             // 3. Find all subscribed users for this event (with users eagerly fetched)
-            List<Subscription> subscriptions = subscriptionRepository.findByEventIdWithUsers(event.getId());
+            List<Subscription> subscriptions = observe("notification.subscribers.query", topic,
+                () -> subscriptionRepository.findByEventIdWithUsers(event.getId()));
             if (subscriptions.isEmpty()) {
-                logger.info("No subscribers found for event '{}' (topic: {}). Skipping notifications.", 
+                logger.debug("No subscribers found for event '{}' (topic: {}). Skipping notifications.", 
                     event.getEventName(), topic);
+                logSummary.recordSkippedMessage();
                 return;
             }
             
-            logger.info("Found {} subscribers for event '{}' (topic: {})", 
+            logger.debug("Found {} subscribers for event '{}' (topic: {})", 
                 subscriptions.size(), event.getEventName(), topic);
             
             // 4. Format the message for Telegram
-            String formattedMessage = formatMessageForTelegram(kafkaMessage, event);
+            String formattedMessage = observe("notification.format", topic,
+                () -> formatMessageForTelegram(kafkaMessage, event));
             
-            // 5. Extract user data and send notifications (to avoid Hibernate lazy loading issues)
-            int successCount = 0;
-            int failureCount = 0;
-            
-            // Extract user data within transaction to avoid lazy loading issues
-            List<UserNotificationData> userDataList = new ArrayList<>();
+            // 5. Plan the fan-out: one send per unique chat, however many subscribers share it.
+            // User data is copied within the transaction to avoid Hibernate lazy loading issues
+            List<NotificationFanOutPlanner.Subscriber> subscribers = new ArrayList<>(subscriptions.size());
             for (Subscription subscription : subscriptions) {
                 User user = subscription.getUser();
-                
-                // Extract user data into simple objects within transaction
-                String username = user.getUsername();
-                String telegramChatId = user.getTelegramChatId();
-                String telegramRecipients = user.getTelegramRecipients();
-                
-                logger.debug("Extracted notification data for user: {} (chatId: {}, recipients: {})", 
-                    username, telegramChatId, telegramRecipients);
-                
-                userDataList.add(new UserNotificationData(username, telegramChatId, telegramRecipients));
+                subscribers.add(new NotificationFanOutPlanner.Subscriber(
+                    user.getUsername(), user.getTelegramChatId(), user.getTelegramRecipients()));
+            }
+            NotificationFanOutPlanner.Plan plan = fanOutPlanner.plan(subscribers);
+            logger.debug("Fan-out plan for topic '{}': {}", topic, plan);
+            if (!plan.getUsersWithoutTargets().isEmpty()) {
+                logger.debug("Subscribers without Telegram recipients for topic '{}': {}", 
+                    topic, plan.getUsersWithoutTargets());
             }
             
-            // Send notifications using extracted data (no Hibernate entities involved)
-            for (UserNotificationData userData : userDataList) {
-                boolean notificationSent = sendNotificationToUser(userData, formattedMessage);
-                
-                if (notificationSent) {
-                    successCount++;
-                } else {
-                    failureCount++;
+            // 6. Send notifications (no Hibernate entities involved), in parallel on the delivery executor.
+            // The sends continue the trace of the Kafka record being processed
+            Observation parentObservation = observationRegistry.getCurrentObservation();
+            Map<String, CompletableFuture<DeliveryStatus>> deliveries = new LinkedHashMap<>();
+            for (String chatId : plan.getChatIds()) {
+                deliveries.put(chatId, CompletableFuture.supplyAsync(
+                    () -> deliver(chatId, formattedMessage, parentObservation), deliveryExecutor));
+            }
+            
+            int successCount = 0;
+            int retryScheduledCount = 0;
+            int failureCount = 0;
+            int suppressedCount = 0;
+            for (Map.Entry<String, CompletableFuture<DeliveryStatus>> delivery : deliveries.entrySet()) {
+                String chatId = delivery.getKey();
+                DeliveryStatus status = delivery.getValue().join();
+                switch (status) {
+                    case DELIVERED -> {
+                        successCount++;
+                        logger.debug("Notification delivered to chat ID {} (users: {})", 
+                            chatId, plan.getUsernames(chatId));
+                    }
+                    case RETRY_SCHEDULED -> {
+                        // The final outcome is reported by the delivery scheduler
+                        retryScheduledCount++;
+                        logger.debug("Notification to chat ID {} scheduled for retry (users: {})", 
+                            chatId, plan.getUsernames(chatId));
+                    }
+                    case SUPPRESSED -> {
+                        suppressedCount++;
+                        logger.debug("Skipped suppressed chat ID {} (users: {})", chatId, plan.getUsernames(chatId));
+                    }
+                    case FAILED -> {
+                        failureCount++;
+                        logger.warn("Failed to send notification to chat ID {} (users: {})", 
+                            chatId, plan.getUsernames(chatId));
+                    }
                 }
             }
             
-            logger.info("Notification processing completed for topic '{}'. Success: {}, Failures: {}", 
-                topic, successCount, failureCount);
+            logSummary.recordMessage(deliveries.size(), successCount, retryScheduledCount, failureCount,
+                suppressedCount, plan.getDuplicateCount());
+            logger.debug("Notification processing completed for topic '{}'. Chats: {}, Success: {}, " +
+                "Retry scheduled: {}, Failures: {}, Suppressed: {}, Deduplicated: {}", 
+                topic, deliveries.size(), successCount, retryScheduledCount, failureCount, suppressedCount,
+                plan.getDuplicateCount());
             
         } catch (Exception e) {
             logger.error("Error processing message from topic '{}': {}", topic, e.getMessage(), e);
@@ -229,7 +235,33 @@ public class KafkaListenerServiceImpl implements KafkaListenerService {
 
     @Override
     public boolean isListeningToTopic(String topic) {
-        return topicToContainerMap.containsKey(topic);
+        return containerRegistry.contains(topic);
+    }
+
+    @Override
+    public Set<String> getActiveTopics() {
+        return containerRegistry.getTopics();
+    }
+
+    /**
+     * Create an unstarted listener container for a topic.
+     * 
+     * @param topic the topic name
+     * @return the container
+     */
+    private ConcurrentMessageListenerContainer<String, String> createContainer(String topic) {
+        ConcurrentMessageListenerContainer<String, String> container = containerFactory.createContainer(topic);
+        container.setBeanName(KafkaListenerContainerRegistry.containerId(topic));
+        container.setupMessageListener((MessageListener<String, String>) record -> {
+            try {
+                logger.debug("Received message from topic {}: {}", record.topic(), record.value());
+                processMessage(record.topic(), record.value());
+            } catch (Exception e) {
+                logger.error("Error processing message from topic {}: {}", record.topic(), e.getMessage(), e);
+                throw e; // Re-throw to trigger error handler
+            }
+        });
+        return container;
     }
 
     /**
@@ -239,7 +271,7 @@ public class KafkaListenerServiceImpl implements KafkaListenerService {
      * @param message the raw message string
      * @return parsed KafkaMessageDTO
      */
-    private KafkaMessageDTO parseMessage(String message) {
+    KafkaMessageDTO parseMessage(String message) {
         try {
             return objectMapper.readValue(message, KafkaMessageDTO.class);
         } catch (Exception e) {
@@ -260,7 +292,7 @@ public class KafkaListenerServiceImpl implements KafkaListenerService {
      * @param event the event associated with the message
      * @return formatted message for Telegram
      */
-    private String formatMessageForTelegram(KafkaMessageDTO kafkaMessage, Event event) {
+    String formatMessageForTelegram(KafkaMessageDTO kafkaMessage, Event event) {
         StringBuilder formatted = new StringBuilder();
         
         // Add notification header with event information
@@ -332,67 +364,36 @@ public class KafkaListenerServiceImpl implements KafkaListenerService {
     }
     
     /**
-     * Send notification to a specific user via their configured Telegram recipients.
+     * Send a notification; the scheduler caps the number of concurrent Telegram calls,
+     * including retries, regardless of the executor's thread count.
      * 
-     * @param userData the user data to send notification to
+     * @param chatId the chat to send the notification to
      * @param message the formatted message
-     * @return true if at least one notification was sent successfully, false otherwise
+     * @param parentObservation the observation of the message being processed, if any
+     * @return the delivery status after the first attempt
      */
-    private boolean sendNotificationToUser(UserNotificationData userData, String message) {
-        boolean atLeastOneSuccess = false;
-        
+    private DeliveryStatus deliver(String chatId, String message, Observation parentObservation) {
         try {
-            // Check if user has telegram chat ID (bot activation)
-            if (userData.getTelegramChatId() != null && !userData.getTelegramChatId().trim().isEmpty()) {
-                boolean sent = telegramBotService.sendMessage(userData.getTelegramChatId(), message);
-                if (sent) {
-                    atLeastOneSuccess = true;
-                    logger.debug("Notification sent to user '{}' via bot chat ID: {}", 
-                        userData.getUsername(), userData.getTelegramChatId());
-                } else {
-                    logger.warn("Failed to send notification to user '{}' via bot chat ID: {}", 
-                        userData.getUsername(), userData.getTelegramChatId());
-                }
-            }
-            
-            // Also send to additional telegram recipients if configured
-            if (userData.getTelegramRecipients() != null && !userData.getTelegramRecipients().trim().isEmpty()) {
-                String[] recipients = userData.getTelegramRecipients().split(";");
-                for (String recipient : recipients) {
-                    recipient = recipient.trim();
-                    if (!recipient.isEmpty()) {
-                        boolean sent = telegramBotService.sendMessage(recipient, message);
-                        if (sent) {
-                            atLeastOneSuccess = true;
-                            logger.debug("Notification sent to user '{}' via recipient: {}", 
-                                userData.getUsername(), recipient);
-                        } else {
-                            logger.warn("Failed to send notification to user '{}' via recipient: {}", 
-                                userData.getUsername(), recipient);
-                        }
-                    }
-                }
-            }
-            
-            if (!atLeastOneSuccess) {
-                logger.warn("No telegram recipients configured for user '{}' or all sends failed", 
-                    userData.getUsername());
-            }
-            
+            return parentObservation != null
+                ? parentObservation.scoped(() -> deliveryScheduler.deliver(chatId, message))
+                : deliveryScheduler.deliver(chatId, message);
         } catch (Exception e) {
-            logger.error("Error sending notification to user '{}': {}", userData.getUsername(), e.getMessage(), e);
+            logger.error("Error sending notification to chat ID {}: {}", chatId, e.getMessage(), e);
+            return DeliveryStatus.FAILED;
         }
-        
-        return atLeastOneSuccess;
     }
 
     /**
-     * Generate a unique container ID for a topic.
+     * Run a step of the message processing in its own span (a child of the Kafka receive span)
      * 
-     * @param topic the topic name
-     * @return a unique container ID
+     * @param name the observation name
+     * @param topic the topic the message came from
+     * @param step the step to run
+     * @return the step's result
      */
-    private String generateContainerId(String topic) {
-        return "dynamic-listener-" + topic + "-" + System.currentTimeMillis();
+    private <T> T observe(String name, String topic, Supplier<T> step) {
+        return Observation.createNotStarted(name, observationRegistry)
+            .lowCardinalityKeyValue("messaging.destination.name", topic)
+            .observe(step);
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,176 @@
+package com.vibecodingdemo.backend.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vibecodingdemo.backend.service.NotificationTransport;
+import com.vibecodingdemo.backend.service.TelegramSendResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-process stand-in for the Telegram Bot API, enabled with the {@code mock-telegram} profile.
+ * <p>
+ * Each send waits for the configured latency (plus random jitter), then fails with the
+ * configured probabilities the way Telegram would: rate limiting (429 with
+ * {@code retry_after}), transient server errors (500) or permanent errors (400, message too
+ * long). Failures are built from Bot API error bodies, so retries and recipient suppression behave
+ * as in production. The permanent error is deliberately not one that marks the recipient as gone:
+ * a random 403 would suppress each chat on its first hit and shrink a benchmark's recipient set
+ * over the run, whereas a 400 only suppresses a chat after several consecutive failures. Every send is counted per outcome in the {@code notification.mock.sends}
+ * counter, and the most recent sends are kept for inspection.
+ */
+@Component
+@Profile(MockNotificationTransport.PROFILE)
+public class MockNotificationTransport implements NotificationTransport {
+
+    public static final String PROFILE = "mock-telegram";
+
+    private static final Logger logger = LoggerFactory.getLogger(MockNotificationTransport.class);
+
+    private static final String RATE_LIMITED_BODY =
+            "{\"ok\":false,\"error_code\":429,\"description\":\"Too Many Requests: retry after 1\"," +
+            "\"parameters\":{\"retry_after\":1}}";
+    private static final String TRANSIENT_ERROR_BODY =
+            "{\"ok\":false,\"error_code\":500,\"description\":\"Internal Server Error\"}";
+    private static final String PERMANENT_ERROR_BODY =
+            "{\"ok\":false,\"error_code\":400,\"description\":\"Bad Request: message is too long\"}";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final long latencyMs;
+    private final long latencyJitterMs;
+    private final double rateLimitRatio;
+    private final double transientErrorRatio;
+    private final double permanentErrorRatio;
+    private final int recordLimit;
+
+    private final Map<TelegramSendResult.Outcome, Counter> sendCounters = new EnumMap<>(TelegramSendResult.Outcome.class);
+    private final Map<TelegramSendResult.Outcome, LongAdder> sendCounts = new EnumMap<>(TelegramSendResult.Outcome.class);
+    private final Deque<RecordedSend> recordedSends = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger recordedCount = new AtomicInteger();
+
+    @Autowired
+    public MockNotificationTransport(MeterRegistry meterRegistry,
+                                     @Value("${telegram.mock.latency-ms:50}") long latencyMs,
+                                     @Value("${telegram.mock.latency-jitter-ms:0}") long latencyJitterMs,
+                                     @Value("${telegram.mock.rate-limit-ratio:0}") double rateLimitRatio,
+                                     @Value("${telegram.mock.transient-error-ratio:0}") double transientErrorRatio,
+                                     @Value("${telegram.mock.permanent-error-ratio:0}") double permanentErrorRatio,
+                                     @Value("${telegram.mock.record-limit:1000}") int recordLimit) {
+        if (rateLimitRatio + transientErrorRatio + permanentErrorRatio > 1.0) {
+            throw new IllegalArgumentException("Mock Telegram error ratios must not add up to more than 1");
+        }
+        this.latencyMs = latencyMs;
+        this.latencyJitterMs = latencyJitterMs;
+        this.rateLimitRatio = rateLimitRatio;
+        this.transientErrorRatio = transientErrorRatio;
+        this.permanentErrorRatio = permanentErrorRatio;
+        this.recordLimit = recordLimit;
+
+        for (TelegramSendResult.Outcome outcome : TelegramSendResult.Outcome.values()) {
+            sendCounters.put(outcome, Counter.builder("notification.mock.sends")
+                    .description("Sends handled by the mock Telegram transport")
+                    .tag("outcome", outcome.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry));
+            sendCounts.put(outcome, new LongAdder());
+        }
+        logger.warn("Using the mock Telegram transport: notifications are NOT delivered " +
+                "(latency {} ms +{} ms, 429 {}, 5xx {}, 400 {})",
+                latencyMs, latencyJitterMs, rateLimitRatio, transientErrorRatio, permanentErrorRatio);
+    }
+
+    @Override
+    public TelegramSendResult send(String chatId, String message) {
+        try {
+            long delayMs = latencyMs + (latencyJitterMs > 0 ? ThreadLocalRandom.current().nextLong(latencyJitterMs + 1) : 0);
+            if (delayMs > 0) {
+                Thread.sleep(delayMs);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return TelegramSendResult.transientFailure("Interrupted");
+        }
+
+        TelegramSendResult result = nextResult();
+        sendCounters.get(result.getOutcome()).increment();
+        sendCounts.get(result.getOutcome()).increment();
+        record(new RecordedSend(chatId, message, result.getOutcome(), Instant.now()));
+        return result;
+    }
+
+    private TelegramSendResult nextResult() {
+        double roll = ThreadLocalRandom.current().nextDouble();
+        if (roll < rateLimitRatio) {
+            return TelegramSendResult.fromErrorResponse(429, RATE_LIMITED_BODY, objectMapper);
+        }
+        roll -= rateLimitRatio;
+        if (roll < transientErrorRatio) {
+            return TelegramSendResult.fromErrorResponse(500, TRANSIENT_ERROR_BODY, objectMapper);
+        }
+        roll -= transientErrorRatio;
+        if (roll < permanentErrorRatio) {
+            return TelegramSendResult.fromErrorResponse(400, PERMANENT_ERROR_BODY, objectMapper);
+        }
+        return TelegramSendResult.delivered();
+    }
+
+    private void record(RecordedSend send) {
+        if (recordLimit <= 0) {
+            return;
+        }
+        recordedSends.addLast(send);
+        // Keep the most recent sends only; the count is approximate under contention
+        if (recordedCount.incrementAndGet() > recordLimit && recordedSends.pollFirst() != null) {
+            recordedCount.decrementAndGet();
+        }
+    }
+
+    /**
+     * Get the number of sends with the given outcome since startup or the last {@link #reset()}
+     * @param outcome the outcome
+     * @return the count
+     */
+    public long getSendCount(TelegramSendResult.Outcome outcome) {
+        return sendCounts.get(outcome).sum();
+    }
+
+    /**
+     * Get the most recent sends, oldest first
+     * @return a snapshot of at most {@code telegram.mock.record-limit} sends
+     */
+    public List<RecordedSend> getRecordedSends() {
+        return new ArrayList<>(recordedSends);
+    }
+
+    /**
+     * Forget the recorded sends and restart the counts returned by {@link #getSendCount}.
+     * The Micrometer counters are monotonic and keep counting.
+     */
+    public void reset() {
+        recordedSends.clear();
+        recordedCount.set(0);
+        sendCounts.values().forEach(LongAdder::reset);
+    }
+
+    /**
+     * A send handled by the mock
+     */
+    public record RecordedSend(String chatId, String message, TelegramSendResult.Outcome outcome, Instant sentAt) {
+    }
+}
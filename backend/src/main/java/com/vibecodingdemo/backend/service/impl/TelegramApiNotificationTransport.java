@@ -0,0 +1,28 @@
+package com.vibecodingdemo.backend.service.impl;
+
+import com.vibecodingdemo.backend.service.NotificationTransport;
+import com.vibecodingdemo.backend.service.TelegramBotService;
+import com.vibecodingdemo.backend.service.TelegramSendResult;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Delivers notifications through the Telegram Bot API at {@code telegram.api.base-url}.
+ */
+@Component
+@Profile("!" + MockNotificationTransport.PROFILE)
+public class TelegramApiNotificationTransport implements NotificationTransport {
+
+    private final TelegramBotService telegramBotService;
+
+    @Autowired
+    public TelegramApiNotificationTransport(TelegramBotService telegramBotService) {
+        this.telegramBotService = telegramBotService;
+    }
+
+    @Override
+    public TelegramSendResult send(String chatId, String message) {
+        return telegramBotService.trySendMessage(chatId, message);
+    }
+}
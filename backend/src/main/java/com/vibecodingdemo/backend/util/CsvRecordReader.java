@@ -0,0 +1,131 @@
+package com.vibecodingdemo.backend.util;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal streaming reader for RFC 4180 CSV: comma separated, fields optionally enclosed in
+ * double quotes, quotes escaped by doubling them, and quoted fields may span lines.
+ * Only one record is held in memory at a time.
+ */
+public class CsvRecordReader {
+
+    private final Reader reader;
+    private int pushback = -2;
+    private long line = 1;
+    private long recordLine;
+
+    public CsvRecordReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Read the next record
+     * @return the fields of the record, or null at the end of the input
+     * @throws IOException if reading fails
+     * @throws IllegalArgumentException if a quoted field is not terminated
+     */
+    public List<String> readRecord() throws IOException {
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+
+        recordLine = line;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean fieldWasQuoted = false;
+
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new IllegalArgumentException("Unterminated quoted field starting on line " + recordLine);
+                }
+                if (c == '"') {
+                    int next = read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        unread(next);
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty() && !fieldWasQuoted) {
+                quoted = true;
+                fieldWasQuoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                fieldWasQuoted = false;
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r') {
+                    int next = read();
+                    if (next != '\n') {
+                        unread(next);
+                    }
+                }
+                if (c != -1) {
+                    line++;
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    /**
+     * @return the line number (1-based) on which the last record returned started
+     */
+    public long getRecordLine() {
+        return recordLine;
+    }
+
+    /**
+     * Format one record, quoting fields that contain separators, quotes or line breaks
+     * @param fields the field values (null is written as an empty field)
+     * @return the formatted record, without a trailing line break
+     */
+    public static String formatRecord(List<String> fields) {
+        StringBuilder record = new StringBuilder();
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                record.append(',');
+            }
+            String value = fields.get(i);
+            if (value == null) {
+                continue;
+            }
+            if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                    || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+                record.append('"').append(value.replace("\"", "\"\"")).append('"');
+            } else {
+                record.append(value);
+            }
+        }
+        return record.toString();
+    }
+
+    private int read() throws IOException {
+        if (pushback != -2) {
+            int c = pushback;
+            pushback = -2;
+            return c;
+        }
+        return reader.read();
+    }
+
+    private void unread(int c) {
+        pushback = c;
+    }
+}
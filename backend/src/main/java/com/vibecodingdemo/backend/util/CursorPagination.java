@@ -0,0 +1,100 @@
+package com.vibecodingdemo.backend.util;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Helpers shared by the keyset-paginated endpoints.
+ */
+public final class CursorPagination {
+
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 200;
+
+    private CursorPagination() {
+    }
+
+    /**
+     * Validate a requested page size
+     * @param limit the requested page size, may be null
+     * @return the page size to use
+     * @throws IllegalArgumentException if the limit is out of range
+     */
+    public static int resolveLimit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_LIMIT;
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        return limit;
+    }
+
+    /**
+     * Parse the sort direction of the keyset column
+     * @param sort "asc" or "desc" (case insensitive), may be null
+     * @return the sort direction, ascending by default
+     * @throws IllegalArgumentException if the value is not a valid direction
+     */
+    public static Sort.Direction resolveDirection(String sort) {
+        if (sort == null || sort.isBlank()) {
+            return Sort.Direction.ASC;
+        }
+        return Sort.Direction.fromString(sort.trim());
+    }
+
+    /**
+     * Resolve the cursor for the given direction. Without a cursor the scan starts at
+     * the lowest (ascending) or highest (descending) possible id.
+     * @param after the id of the last row of the previous page, may be null
+     * @param direction the sort direction
+     * @return the exclusive keyset bound
+     */
+    public static long resolveCursor(Long after, Sort.Direction direction) {
+        if (after != null) {
+            return after;
+        }
+        return direction.isAscending() ? 0L : Long.MAX_VALUE;
+    }
+
+    /**
+     * Build the query page that fetches one extra row to detect whether more pages exist.
+     * The ORDER BY is part of the repository query, so the page itself is unsorted.
+     * @param limit the validated page size
+     * @return the overfetching page request
+     */
+    public static Pageable overfetch(int limit) {
+        return PageRequest.of(0, limit + 1);
+    }
+
+    /**
+     * Turn a user-supplied prefix into a LIKE pattern that can use a b-tree index.
+     * Wildcards in the prefix are escaped with {@code '!'}, which queries must declare via
+     * {@code ESCAPE '!'}.
+     * @param prefix the prefix, may be null or blank
+     * @return the LIKE pattern, or null if no prefix filter should be applied
+     */
+    public static String toPrefixPattern(String prefix) {
+        if (prefix == null || prefix.isBlank()) {
+            return null;
+        }
+        String escaped = prefix.trim()
+                .replace("!", "!!")
+                .replace("%", "!%")
+                .replace("_", "!_");
+        return escaped + "%";
+    }
+
+    /**
+     * Normalize an optional exact-match filter value
+     * @param value the filter value, may be null or blank
+     * @return the trimmed value, or null if no filter should be applied
+     */
+    public static String toFilter(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return value.trim();
+    }
+}
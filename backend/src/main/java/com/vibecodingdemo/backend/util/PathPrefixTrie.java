@@ -0,0 +1,88 @@
+package com.vibecodingdemo.backend.util;
+
+import java.util.Arrays;
+
+/**
+ * Maps URL path prefixes to values and finds the longest prefix of a path, without allocating.
+ * <p>
+ * Prefixes match whole path segments: {@code /api/users} matches {@code /api/users} and
+ * {@code /api/users/me}, but not {@code /api/usersettings}. The trie is built at startup and only
+ * read afterwards; it is not safe to {@link #put} while other threads look up.
+ *
+ * @param <T> the value type
+ */
+public final class PathPrefixTrie<T> {
+
+    private final Node<T> root = new Node<>();
+
+    /**
+     * Map a path prefix to a value, replacing any previous value
+     * @param prefix the prefix, e.g. {@code /api/users}; a trailing slash is ignored
+     * @param value the value
+     */
+    public void put(String prefix, T value) {
+        if (prefix == null || value == null) {
+            throw new IllegalArgumentException("Prefix and value are required");
+        }
+        int length = prefix.endsWith("/") ? prefix.length() - 1 : prefix.length();
+        Node<T> node = root;
+        for (int i = 0; i < length; i++) {
+            node = node.childOrCreate(prefix.charAt(i));
+        }
+        node.value = value;
+    }
+
+    /**
+     * Find the value of the longest prefix matching a path
+     * @param path the request path
+     * @param defaultValue the value to return if no prefix matches
+     * @return the value of the longest matching prefix, or the default value
+     */
+    public T findLongestPrefix(String path, T defaultValue) {
+        T match = root.value != null ? root.value : defaultValue;
+        Node<T> node = root;
+        int length = path.length();
+        for (int i = 0; i < length; i++) {
+            node = node.child(path.charAt(i));
+            if (node == null) {
+                return match;
+            }
+            if (node.value != null && (i + 1 == length || path.charAt(i + 1) == '/')) {
+                match = node.value;
+            }
+        }
+        return match;
+    }
+
+    /**
+     * Trie node; children are kept in small parallel arrays, as paths branch little
+     */
+    private static final class Node<T> {
+
+        private char[] keys = new char[0];
+        @SuppressWarnings("unchecked")
+        private Node<T>[] children = new Node[0];
+        private T value;
+
+        Node<T> child(char key) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == key) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        Node<T> childOrCreate(char key) {
+            Node<T> child = child(key);
+            if (child == null) {
+                child = new Node<>();
+                keys = Arrays.copyOf(keys, keys.length + 1);
+                keys[keys.length - 1] = key;
+                children = Arrays.copyOf(children, children.length + 1);
+                children[children.length - 1] = child;
+            }
+            return child;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.vibecodingdemo.backend.util;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Request ID helpers.
+ * <p>
+ * Generated IDs are 16 hex characters from {@link ThreadLocalRandom}: unique enough to correlate
+ * the log lines of a request, and unlike {@code UUID.randomUUID()} they do not draw from the
+ * shared, synchronized {@code SecureRandom}.
+ */
+public final class RequestIds {
+
+    private static final int MAX_INCOMING_LENGTH = 64;
+    private static final int TRACE_ID_LENGTH = 32;
+
+    private RequestIds() {
+    }
+
+    /**
+     * Generate a new request ID
+     * @return 16 lowercase hex characters
+     */
+    public static String generate() {
+        String hex = Long.toHexString(ThreadLocalRandom.current().nextLong());
+        return hex.length() == 16 ? hex : "0".repeat(16 - hex.length()) + hex;
+    }
+
+    /**
+     * Validate a request ID supplied by a client or proxy ({@code X-Request-ID})
+     * @param requestId the incoming value
+     * @return the value if it is 1-64 characters of {@code [A-Za-z0-9._-]}, otherwise null
+     */
+    public static String sanitizeIncoming(String requestId) {
+        if (requestId == null || requestId.isEmpty() || requestId.length() > MAX_INCOMING_LENGTH) {
+            return null;
+        }
+        for (int i = 0; i < requestId.length(); i++) {
+            char c = requestId.charAt(i);
+            boolean allowed = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                    || c == '-' || c == '_' || c == '.';
+            if (!allowed) {
+                return null;
+            }
+        }
+        return requestId;
+    }
+
+    /**
+     * Extract the trace ID from a W3C {@code traceparent} header ({@code 00-<trace-id>-<span-id>-<flags>})
+     * @param traceparent the header value
+     * @return the 32 character trace ID, or null if the header is missing or malformed
+     */
+    public static String traceIdFromTraceparent(String traceparent) {
+        if (traceparent == null || traceparent.length() < 55
+                || traceparent.charAt(2) != '-' || traceparent.charAt(35) != '-') {
+            return null;
+        }
+        String traceId = traceparent.substring(3, 3 + TRACE_ID_LENGTH);
+        for (int i = 0; i < traceId.length(); i++) {
+            char c = traceId.charAt(i);
+            if (!((c >= '0' && c <= '9') || (c >= 'a' && c <= 'f'))) {
+                return null;
+            }
+        }
+        return traceId;
+    }
+}
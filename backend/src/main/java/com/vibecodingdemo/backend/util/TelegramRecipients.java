@@ -0,0 +1,37 @@
+package com.vibecodingdemo.backend.util;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Parsing of a user's Telegram notification targets.
+ */
+public final class TelegramRecipients {
+
+    private static final String RECIPIENT_SEPARATOR = ";";
+
+    private TelegramRecipients() {
+    }
+
+    /**
+     * Collect the chat IDs a user's notifications go to: the activated bot chat first,
+     * then the additional recipients in their configured order
+     * @param telegramChatId the chat ID from bot activation, may be null
+     * @param telegramRecipients additional recipients separated by {@code ;}, may be null
+     * @return the distinct, trimmed chat IDs in delivery order
+     */
+    public static Set<String> chatIds(String telegramChatId, String telegramRecipients) {
+        Set<String> chatIds = new LinkedHashSet<>();
+        if (telegramChatId != null && !telegramChatId.isBlank()) {
+            chatIds.add(telegramChatId.trim());
+        }
+        if (telegramRecipients != null && !telegramRecipients.isBlank()) {
+            for (String recipient : telegramRecipients.split(RECIPIENT_SEPARATOR)) {
+                if (!recipient.isBlank()) {
+                    chatIds.add(recipient.trim());
+                }
+            }
+        }
+        return chatIds;
+    }
+}
@@ -0,0 +1,38 @@
+-- Baseline schema, matching the JPA entities. Databases that were previously managed by
+-- ddl-auto=update are baselined at this version (spring.flyway.baseline-on-migrate).
+
+CREATE TABLE users (
+    id                  BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    username            VARCHAR(255) NOT NULL,
+    role                VARCHAR(255) NOT NULL,
+    telegram_recipients VARCHAR(255),
+    telegram_chat_id    VARCHAR(255),
+    created_at          TIMESTAMP(6) NOT NULL,
+    updated_at          TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_users PRIMARY KEY (id),
+    CONSTRAINT uk_users_username UNIQUE (username),
+    CONSTRAINT ck_users_role CHECK (role IN ('USER', 'ADMIN'))
+);
+
+CREATE TABLE events (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    system_name VARCHAR(255) NOT NULL,
+    event_name  VARCHAR(255) NOT NULL,
+    kafka_topic VARCHAR(255) NOT NULL,
+    description TEXT,
+    created_at  TIMESTAMP(6) NOT NULL,
+    updated_at  TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_events PRIMARY KEY (id)
+);
+
+CREATE TABLE subscriptions (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    user_id    BIGINT NOT NULL,
+    event_id   BIGINT NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_subscriptions PRIMARY KEY (id),
+    -- Also serves lookups by user_id (leading column)
+    CONSTRAINT uk_subscriptions_user_event UNIQUE (user_id, event_id),
+    CONSTRAINT fk_subscriptions_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE,
+    CONSTRAINT fk_subscriptions_event FOREIGN KEY (event_id) REFERENCES events (id) ON DELETE CASCADE
+);
@@ -0,0 +1,16 @@
+-- Indexes for the repository query shapes. IF NOT EXISTS keeps this safe on databases
+-- that were baselined from a schema created by Hibernate.
+
+-- EventRepository.findByKafkaTopic (listener registration and every consumed message).
+-- Topics map to exactly one event, so the index is unique.
+CREATE UNIQUE INDEX IF NOT EXISTS uk_events_kafka_topic ON events (kafka_topic);
+
+-- EventRepository.findBySystemName and the systemName-filtered keyset pages (ORDER BY id)
+CREATE INDEX IF NOT EXISTS idx_events_system_name_id ON events (system_name, id);
+
+-- Keyset pages filtered by event name prefix (LIKE 'prefix%'), independent of collation
+CREATE INDEX IF NOT EXISTS idx_events_event_name_prefix ON events (event_name varchar_pattern_ops);
+
+-- SubscriptionRepository.findByEventIdWithUsers: subscribers of an event on every message.
+-- Covers user_id so the join to users needs no heap access to subscriptions.
+CREATE INDEX IF NOT EXISTS idx_subscriptions_event_user ON subscriptions (event_id, user_id);
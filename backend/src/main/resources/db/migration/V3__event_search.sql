@@ -0,0 +1,20 @@
+-- Full-text and fuzzy search support for the event catalog (see EventRepositoryImpl).
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Weighted document: event name > system name > Kafka topic > description
+ALTER TABLE events ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(event_name, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(system_name, '')), 'B') ||
+        setweight(to_tsvector('simple', coalesce(kafka_topic, '')), 'C') ||
+        setweight(to_tsvector('simple', coalesce(description, '')), 'D')
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_events_search_vector ON events USING gin (search_vector);
+
+-- Trigram index for substring (ILIKE) and typo-tolerant (word similarity) matches.
+-- The expression must match EventRepositoryImpl.SEARCH_DOCUMENT exactly to be used.
+CREATE INDEX IF NOT EXISTS idx_events_search_trgm ON events USING gin (
+    (system_name || ' ' || event_name || ' ' || kafka_topic || ' ' || coalesce(description, '')) gin_trgm_ops
+);
@@ -0,0 +1,27 @@
+-- Replace IDENTITY ids with sequences so Hibernate can batch inserts.
+-- The entities use the pooled optimizer with allocationSize = 50: every nextval reserves
+-- the block (value - 49 .. value), so INCREMENT BY must match the allocation size.
+-- Each sequence starts one block above the current maximum id.
+
+ALTER TABLE users ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS users_seq INCREMENT BY 50;
+SELECT setval('users_seq', COALESCE((SELECT MAX(id) FROM users), 0) + 50, false);
+
+ALTER TABLE events ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS events_seq INCREMENT BY 50;
+SELECT setval('events_seq', COALESCE((SELECT MAX(id) FROM events), 0) + 50, false);
+
+ALTER TABLE subscriptions ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS subscriptions_seq INCREMENT BY 50;
+SELECT setval('subscriptions_seq', COALESCE((SELECT MAX(id) FROM subscriptions), 0) + 50, false);
+
+-- Plain SQL inserts (e.g. INSERT ... ON CONFLICT in SubscriptionRepositoryImpl) draw from the
+-- same sequence. Such a row takes the top of a block nobody else will use, so it can never
+-- collide with ids handed out by Hibernate.
+ALTER TABLE users ALTER COLUMN id SET DEFAULT nextval('users_seq');
+ALTER TABLE events ALTER COLUMN id SET DEFAULT nextval('events_seq');
+ALTER TABLE subscriptions ALTER COLUMN id SET DEFAULT nextval('subscriptions_seq');
+
+ALTER SEQUENCE users_seq OWNED BY users.id;
+ALTER SEQUENCE events_seq OWNED BY events.id;
+ALTER SEQUENCE subscriptions_seq OWNED BY subscriptions.id;
@@ -0,0 +1,26 @@
+-- Runs before every migrate. V2 adds the unique index uk_events_kafka_topic; on a database
+-- baselined at V1 from a schema created by Hibernate, events may already share a topic and
+-- the index would fail with a bare duplicate key error. Stop first and name the topics instead.
+-- Resolve them by hand (rename the topic of, or merge the subscriptions into, all but one event
+-- per topic), then restart. Nothing is changed automatically: which event is right is not knowable here.
+DO $$
+DECLARE
+    duplicates TEXT;
+BEGIN
+    IF to_regclass('events') IS NULL OR to_regclass('uk_events_kafka_topic') IS NOT NULL THEN
+        RETURN;
+    END IF;
+
+    SELECT string_agg(kafka_topic || ' (event ids ' || ids || ')', ', ')
+    INTO duplicates
+    FROM (
+        SELECT kafka_topic, string_agg(id::TEXT, ', ' ORDER BY id) AS ids
+        FROM events
+        GROUP BY kafka_topic
+        HAVING COUNT(*) > 1
+    ) d;
+
+    IF duplicates IS NOT NULL THEN
+        RAISE EXCEPTION 'Kafka topics used by more than one event: %. Resolve them before migrating, as V2 makes events.kafka_topic unique', duplicates;
+    END IF;
+END $$;
@@ -0,0 +1,110 @@
+package com.vibecodingdemo.backend.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoggingConfigTest {
+
+    private final Filter filter = new LoggingConfig().requestLoggingContextFilter();
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        MDC.clear();
+    }
+
+    @Test
+    void filter_ShouldScopeRequestIdAndUserToTheRequest() throws Exception {
+        // Given
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("alice", null, "ROLE_USER"));
+        MDC.put("traceId", "4bf92f3577b34da6a3ce929d0e0e4736");
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/events");
+        request.addHeader("X-Request-ID", "client-id-1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        Map<String, String> mdcDuringRequest = new HashMap<>();
+        FilterChain chain = (req, res) -> mdcDuringRequest.putAll(MDC.getCopyOfContextMap());
+
+        // When
+        filter.doFilter(request, response, chain);
+
+        // Then
+        assertEquals("client-id-1", response.getHeader("X-Request-ID"));
+        assertEquals("client-id-1", mdcDuringRequest.get("requestId"));
+        assertEquals("alice", mdcDuringRequest.get("userId"));
+        assertNull(MDC.get("requestId"));
+        assertNull(MDC.get("userId"));
+        // Keys owned by others survive the request
+        assertEquals("4bf92f3577b34da6a3ce929d0e0e4736", MDC.get("traceId"));
+    }
+
+    @Test
+    void filter_ShouldUseTraceId_WhenNoValidRequestIdIsSent() throws Exception {
+        // Given
+        MDC.put("traceId", "4bf92f3577b34da6a3ce929d0e0e4736");
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/events");
+        request.addHeader("X-Request-ID", "bad id\r\n");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(request, response, (req, res) -> { });
+
+        // Then
+        assertEquals("4bf92f3577b34da6a3ce929d0e0e4736", response.getHeader("X-Request-ID"));
+        RequestContext context = (RequestContext) request.getAttribute(RequestContext.ATTRIBUTE);
+        assertEquals("anonymous", context.userId());
+    }
+
+    @Test
+    void filter_ShouldLogRequestCompletedWithSqlQueryCount() throws Exception {
+        // Given
+        Logger logger = (Logger) LoggerFactory.getLogger(LoggingConfig.class.getName() + "$RequestLoggingContextFilter");
+        Level previousLevel = logger.getLevel();
+        ListAppender<ILoggingEvent> appender = new ListAppender<>();
+        appender.start();
+        logger.addAppender(appender);
+        logger.setLevel(Level.DEBUG);
+        Filter queryMetricsFilter = new QueryMetricsConfig(new SimpleMeterRegistry(), 5, false).queryMetricsFilter();
+        QueryCountingStatementInspector statementInspector = new QueryCountingStatementInspector();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/events");
+        request.addHeader("X-Request-ID", "client-id-1");
+
+        // When: the metrics filter wraps this one, as in the application
+        try {
+            queryMetricsFilter.doFilter(request, new MockHttpServletResponse(), (req, res) ->
+                    filter.doFilter(req, res, (innerReq, innerRes) -> {
+                        statementInspector.inspect("select e1_0.id from events e1_0");
+                        statementInspector.inspect("select u1_0.id from users u1_0");
+                    }));
+        } finally {
+            logger.detachAppender(appender);
+            logger.setLevel(previousLevel);
+        }
+
+        // Then
+        ILoggingEvent completed = appender.list.stream()
+                .filter(event -> event.getFormattedMessage().startsWith("Request completed"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals("2", completed.getMDCPropertyMap().get("sqlQueries"));
+        assertEquals("client-id-1", completed.getMDCPropertyMap().get("requestId"));
+        assertNull(MDC.get("sqlQueries"));
+    }
+}
@@ -0,0 +1,61 @@
+package com.vibecodingdemo.backend.config;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.stereotype.Service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MethodTimingAspectTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SampleService service;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new SampleService());
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new MethodTimingAspect(meterRegistry));
+        service = proxyFactory.getProxy();
+    }
+
+    @Test
+    void serviceMethod_ShouldBeTimedWithClassAndMethodTags() {
+        // When
+        service.greet("Ada");
+        service.greet("Bob");
+
+        // Then
+        Timer timer = meterRegistry.get(MethodTimingAspect.SERVICE_TIMER)
+                .tags("class", "SampleService", "method", "greet", "exception", "none")
+                .timer();
+        assertEquals(2, timer.count());
+    }
+
+    @Test
+    void serviceMethod_ShouldTagException_WhenMethodThrows() {
+        // When
+        assertThrows(IllegalArgumentException.class, () -> service.greet(null));
+
+        // Then
+        Timer timer = meterRegistry.get(MethodTimingAspect.SERVICE_TIMER)
+                .tags("method", "greet", "exception", "IllegalArgumentException")
+                .timer();
+        assertEquals(1, timer.count());
+    }
+
+    @Service
+    static class SampleService {
+
+        public String greet(String name) {
+            if (name == null) {
+                throw new IllegalArgumentException("Name is required");
+            }
+            return "Hello " + name;
+        }
+    }
+}
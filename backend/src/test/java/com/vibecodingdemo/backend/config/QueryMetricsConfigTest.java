@@ -0,0 +1,129 @@
+package com.vibecodingdemo.backend.config;
+
+import com.vibecodingdemo.backend.exception.QueryBudgetExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryMetricsConfigTest {
+
+    private static final String SELECT_EVENT = "select e1_0.id from events e1_0 where e1_0.id=?";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final QueryCountingStatementInspector statementInspector = new QueryCountingStatementInspector();
+
+    @Test
+    void filter_ShouldRecordQueriesPerRequest() throws Exception {
+        // Given
+        Filter filter = new QueryMetricsConfig(meterRegistry, 5, true).queryMetricsFilter();
+
+        // When
+        filter.doFilter(request(), new MockHttpServletResponse(), handlerExecuting("withinBudget", 2));
+
+        // Then
+        assertEquals(2.0, meterRegistry.get("app.request.queries")
+                .tags("method", "GET", "uri", "/api/sample/{id}").summary().totalAmount());
+        assertNull(RequestQueryStatistics.current());
+    }
+
+    @Test
+    void filter_ShouldFail_WhenBudgetExceededAndEnforced() {
+        // Given
+        Filter filter = new QueryMetricsConfig(meterRegistry, 5, true).queryMetricsFilter();
+
+        // When
+        QueryBudgetExceededException exception = assertThrows(QueryBudgetExceededException.class,
+                () -> filter.doFilter(request(), new MockHttpServletResponse(), handlerExecuting("withinBudget", 3)));
+
+        // Then
+        assertEquals(2, exception.getBudget());
+        assertEquals(3, exception.getQueryCount());
+    }
+
+    @Test
+    void filter_ShouldNotCountStatementsBeforeTheHandlerAgainstItsBudget() throws Exception {
+        // Given
+        Filter filter = new QueryMetricsConfig(meterRegistry, 5, true).queryMetricsFilter();
+
+        // When: one statement during authentication, two in the handler
+        filter.doFilter(request(), new MockHttpServletResponse(), handlerExecuting("withinBudget", 1, 2));
+
+        // Then
+        assertEquals(3.0, meterRegistry.get("app.request.queries")
+                .tags("method", "GET", "uri", "/api/sample/{id}").summary().totalAmount());
+        assertTrue(meterRegistry.find("app.request.query.budget.exceeded").counters().isEmpty());
+    }
+
+    @Test
+    void filter_ShouldOnlyCountExceededBudget_WhenNotEnforced() throws Exception {
+        // Given
+        Filter filter = new QueryMetricsConfig(meterRegistry, 5, false).queryMetricsFilter();
+
+        // When
+        filter.doFilter(request(), new MockHttpServletResponse(), handlerExecuting("withinBudget", 3));
+
+        // Then
+        assertEquals(1.0, meterRegistry.get("app.request.query.budget.exceeded").counter().count());
+    }
+
+    @Test
+    void filter_ShouldReportRepeatedStatementsAsNPlusOne() throws Exception {
+        // Given
+        Filter filter = new QueryMetricsConfig(meterRegistry, 5, true).queryMetricsFilter();
+
+        // When
+        filter.doFilter(request(), new MockHttpServletResponse(), handlerExecuting("withoutBudget", 6));
+
+        // Then
+        assertEquals(1.0, meterRegistry.get("app.request.n_plus_one").counter().count());
+    }
+
+    private MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/sample/1");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/sample/{id}");
+        return request;
+    }
+
+    /**
+     * A chain dispatching to a handler of {@link SampleController} that executes the given number of statements
+     */
+    private FilterChain handlerExecuting(String handlerName, int statements) throws NoSuchMethodException {
+        return handlerExecuting(handlerName, 0, statements);
+    }
+
+    /**
+     * A chain executing statements before dispatching to a handler of {@link SampleController}, as
+     * authentication does, and then the given number of statements in the handler
+     */
+    private FilterChain handlerExecuting(String handlerName, int statementsBeforeHandler, int statements)
+            throws NoSuchMethodException {
+        HandlerMethod handler = new HandlerMethod(new SampleController(), SampleController.class.getMethod(handlerName));
+        return (request, response) -> {
+            for (int i = 0; i < statementsBeforeHandler; i++) {
+                statementInspector.inspect(SELECT_EVENT);
+            }
+            new QueryMetricsConfig.QueryBudgetInterceptor()
+                    .preHandle((MockHttpServletRequest) request, (MockHttpServletResponse) response, handler);
+            for (int i = 0; i < statements; i++) {
+                statementInspector.inspect(SELECT_EVENT);
+            }
+        };
+    }
+
+    static class SampleController {
+
+        @QueryBudget(2)
+        public void withinBudget() {
+        }
+
+        public void withoutBudget() {
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.vibecodingdemo.backend.config;
+
+import jakarta.servlet.Filter;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SecurityHeadersConfigTest {
+
+    private final Filter filter = new SecurityHeadersConfig().securityHeadersFilter();
+
+    @Test
+    void filter_ShouldSetBaseHeadersWithoutCachePolicy_ForUnlistedRoute() throws Exception {
+        // When
+        MockHttpServletResponse response = filter(new MockHttpServletRequest("GET", "/api/subscriptions"));
+
+        // Then
+        assertTrue(response.getHeader("Content-Security-Policy").startsWith("default-src 'self'; script-src"));
+        assertEquals("DENY", response.getHeader("X-Frame-Options"));
+        assertNull(response.getHeader("Cache-Control"));
+        assertNull(response.getHeader("Strict-Transport-Security"));
+    }
+
+    @Test
+    void filter_ShouldPreventStorage_ForUserEndpoints() throws Exception {
+        // When
+        MockHttpServletResponse response = filter(new MockHttpServletRequest("POST", "/api/users/login"));
+
+        // Then
+        assertEquals("no-cache, no-store, must-revalidate", response.getHeader("Cache-Control"));
+        assertEquals("no-cache", response.getHeader("Pragma"));
+    }
+
+    @Test
+    void filter_ShouldLeaveCacheControlToHandlersAndSpringSecurity_ForEventEndpoints() throws Exception {
+        // When
+        MockHttpServletResponse catalog = filter(new MockHttpServletRequest("GET", "/api/events"));
+        MockHttpServletResponse export = filter(new MockHttpServletRequest("GET", "/api/events/export"));
+
+        // Then
+        assertNull(catalog.getHeader("Cache-Control"));
+        assertNull(export.getHeader("Cache-Control"));
+    }
+
+    @Test
+    void filter_ShouldAddHsts_OverHttps() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/events");
+        request.setScheme("https");
+
+        // When
+        MockHttpServletResponse response = filter(request);
+
+        // Then
+        assertEquals("max-age=31536000; includeSubDomains; preload", response.getHeader("Strict-Transport-Security"));
+    }
+
+    private MockHttpServletResponse filter(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
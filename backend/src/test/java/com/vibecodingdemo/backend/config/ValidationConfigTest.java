@@ -0,0 +1,75 @@
+package com.vibecodingdemo.backend.config;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValidationConfigTest {
+
+    private static final String JWT = "Bearer eyJhbGciOiJIUzI1NiJ9.eyJzdWIiOiJ1c2VyIn0.abc/def+ghi=";
+
+    private final Filter filter = new ValidationConfig(new String[] {"Authorization", "Content-Type"},
+            new String[] {"/actuator"}).xssProtectionFilter();
+
+    @Test
+    void sanitize_ShouldReturnSameInstance_WhenValueIsClean() {
+        // Given
+        String value = "Spring Boot meetup 2025, room 4";
+
+        // When & Then
+        assertSame(value, XssSanitizer.sanitize(value));
+    }
+
+    @Test
+    void sanitize_ShouldEncodeMarkupAndRemoveScriptConstructs() {
+        // When & Then
+        assertEquals("&lt;script&gt;alert(1)&lt;&#x2F;script&gt;", XssSanitizer.sanitize("<script>alert(1)</script>"));
+        assertEquals("&lt;a href=&quot;alert(1)&quot;&gt;", XssSanitizer.sanitize("<a href=\"JavaScript:alert(1)\">"));
+        assertEquals("&lt;img src=x  alert(1)&gt;", XssSanitizer.sanitize("<img src=x onerror = alert(1)>"));
+        assertEquals("document.cookie)", XssSanitizer.sanitize("eval(document.cookie)"));
+    }
+
+    @Test
+    void sanitize_ShouldOnlyRemoveEventHandlersAtWordStart() {
+        // When & Then
+        assertEquals("reason=late", XssSanitizer.sanitize("reason=late"));
+        assertEquals("x  y", XssSanitizer.sanitize("x onclick= y"));
+    }
+
+    @Test
+    void filter_ShouldSanitizeParametersAndHeaders_ButSkipConfiguredHeaders() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/events/search");
+        request.addParameter("q", "<b>jazz</b>");
+        request.addHeader("Authorization", JWT);
+        request.addHeader("X-Custom", "<i>");
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // Then
+        HttpServletRequest wrapped = (HttpServletRequest) chain.getRequest();
+        assertEquals("&lt;b&gt;jazz&lt;&#x2F;b&gt;", wrapped.getParameter("q"));
+        assertEquals(JWT, wrapped.getHeader("authorization"));
+        assertEquals("&lt;i&gt;", wrapped.getHeader("X-Custom"));
+    }
+
+    @Test
+    void filter_ShouldNotWrapExcludedPaths() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/actuator/prometheus");
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // Then
+        assertSame(request, chain.getRequest());
+    }
+}
@@ -4,18 +4,23 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.vibecodingdemo.backend.dto.EventDTO;
 import com.vibecodingdemo.backend.entity.Event;
 import com.vibecodingdemo.backend.repository.EventRepository;
+import com.vibecodingdemo.backend.service.KafkaListenerService;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -34,6 +39,12 @@ public class EventManagementIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockBean
+    private KafkaListenerService kafkaListenerService;
+
     private Event testEvent;
 
     @BeforeEach
@@ -42,6 +53,16 @@ public class EventManagementIntegrationTest {
         
         testEvent = new Event("TestSystem", "TestEvent", "test-topic", "Test event description");
         testEvent = eventRepository.save(testEvent);
+        flushAndClear();
+    }
+
+    /**
+     * Write the fixtures and detach them, so that the query budgets the test profile enforces
+     * count neither their inserts nor miss selects served from the persistence context
+     */
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
     }
 
     @Test
@@ -56,6 +77,59 @@ public class EventManagementIntegrationTest {
                 .andExpect(jsonPath("$[0].kafkaTopic", is("test-topic")));
     }
 
+    @Test
+    @WithMockUser
+    void testGetAllEventsReturnsETag() throws Exception {
+        mockMvc.perform(get("/api/events"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", startsWith("\"")))
+                .andExpect(header().stringValues("Cache-Control", "no-cache, private"));
+    }
+
+    @Test
+    @WithMockUser
+    void testOtherEventReadsAreNotStored() throws Exception {
+        // Spring Security's default: the revalidation policy with an ETag only applies to the catalog
+        mockMvc.perform(get("/api/events/export"))
+                .andExpect(header().string("Cache-Control", "no-cache, no-store, max-age=0, must-revalidate"));
+        mockMvc.perform(get("/api/events/{id}", testEvent.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "no-cache, no-store, max-age=0, must-revalidate"));
+    }
+
+    @Test
+    @WithMockUser
+    void testGetAllEventsNotModifiedWhenETagMatches() throws Exception {
+        String eTag = mockMvc.perform(get("/api/events"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        mockMvc.perform(get("/api/events").header("If-None-Match", eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", is(eTag)))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @WithMockUser
+    void testGetAllEventsRefreshedAfterCatalogChange() throws Exception {
+        String eTag = mockMvc.perform(get("/api/events"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        eventRepository.save(new Event("OtherSystem", "OtherEvent", "other-topic", "Other description"));
+        flushAndClear();
+
+        mockMvc.perform(get("/api/events").header("If-None-Match", eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(is(eTag))))
+                .andExpect(jsonPath("$", hasSize(2)));
+    }
+
     @Test
     @WithMockUser
     void testGetEventById() throws Exception {
@@ -136,6 +210,46 @@ public class EventManagementIntegrationTest {
                 .andExpect(jsonPath("$.error", containsString("Event not found with id: 999")));
     }
 
+    @Test
+    @WithMockUser
+    void testCreateEventWithDuplicateKafkaTopic() throws Exception {
+        EventDTO duplicateEventDTO = new EventDTO("OtherSystem", "OtherEvent", "test-topic", "Other description");
+
+        mockMvc.perform(post("/api/events")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(duplicateEventDTO)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.errorCode", is("DUPLICATE_KAFKA_TOPIC")));
+
+        assertThat(eventRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @WithMockUser
+    void testUpdateEventWithKafkaTopicOfAnotherEvent() throws Exception {
+        Event otherEvent = eventRepository.save(new Event("OtherSystem", "OtherEvent", "other-topic", "Other description"));
+        EventDTO updateEventDTO = new EventDTO("OtherSystem", "OtherEvent", "test-topic", "Other description");
+
+        mockMvc.perform(put("/api/events/{id}", otherEvent.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateEventDTO)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.errorCode", is("DUPLICATE_KAFKA_TOPIC")));
+    }
+
+    @Test
+    @WithMockUser
+    void testUpdateEventKeepingItsKafkaTopic() throws Exception {
+        EventDTO updateEventDTO = new EventDTO("TestSystem", "RenamedEvent", "test-topic", "Test event description");
+
+        mockMvc.perform(put("/api/events/{id}", testEvent.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateEventDTO)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.eventName", is("RenamedEvent")))
+                .andExpect(jsonPath("$.kafkaTopic", is("test-topic")));
+    }
+
     @Test
     @WithMockUser
     void testDeleteEvent() throws Exception {
@@ -188,4 +302,50 @@ public class EventManagementIntegrationTest {
                 .andExpect(status().isNotFound())
                 .andExpect(jsonPath("$.error", containsString("Event not found with Kafka topic: non-existent-topic")));
     }
-} 
\ No newline at end of file
+
+    @Test
+    @WithMockUser(authorities = "ADMIN")
+    void testImportEventsFromNdjson() throws Exception {
+        String body = """
+                {"systemName":"ImportSystem","eventName":"Imported","kafkaTopic":"imported-topic","description":"Imported event"}
+                {"systemName":"TestSystem","eventName":"TestEvent","kafkaTopic":"test-topic","description":"Updated description"}
+                {"systemName":"ImportSystem","eventName":"","kafkaTopic":"invalid-topic","description":"Missing name"}
+                not json
+                """;
+
+        mockMvc.perform(post("/api/events/import")
+                        .contentType("application/x-ndjson")
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.received", is(4)))
+                .andExpect(jsonPath("$.created", is(1)))
+                .andExpect(jsonPath("$.updated", is(1)))
+                .andExpect(jsonPath("$.rejected", is(2)))
+                .andExpect(jsonPath("$.errors", hasSize(2)))
+                .andExpect(jsonPath("$.errors[0]", startsWith("line 3:")));
+
+        assertThat(eventRepository.findByKafkaTopic("test-topic"))
+                .get()
+                .extracting(Event::getDescription)
+                .isEqualTo("Updated description");
+    }
+
+    @Test
+    @WithMockUser(authorities = "ADMIN")
+    void testImportEventsFromCsv() throws Exception {
+        String body = "kafkaTopic,systemName,eventName,description\n"
+                + "csv-topic,CsvSystem,CsvEvent,\"Quoted, with comma\"\n";
+
+        mockMvc.perform(post("/api/events/import")
+                        .contentType("text/csv")
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.received", is(1)))
+                .andExpect(jsonPath("$.created", is(1)));
+
+        assertThat(eventRepository.findByKafkaTopic("csv-topic"))
+                .get()
+                .extracting(Event::getDescription)
+                .isEqualTo("Quoted, with comma");
+    }
+}
@@ -0,0 +1,61 @@
+package com.vibecodingdemo.backend.integration;
+
+import com.vibecodingdemo.backend.service.KafkaListenerService;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.filter.RequestContextFilter;
+
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+public class RequestContextIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private RequestContextFilter requestContextFilter;
+
+    @MockBean
+    private KafkaListenerService kafkaListenerService;
+
+    @Test
+    void contextLoads_WithSpringRequestContextFilterAlongsideLoggingFilter() {
+        // Spring Boot's own requestContextFilter bean must not be replaced by the logging filter
+        assertNotNull(requestContextFilter);
+    }
+
+    @Test
+    @WithMockUser
+    void request_ShouldEchoIncomingRequestId() throws Exception {
+        mockMvc.perform(get("/api/events").header("X-Request-ID", "client-id-1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Request-ID", "client-id-1"));
+
+        // The request's MDC entries do not leak into the calling thread
+        assertNull(MDC.get("requestId"));
+        assertNull(MDC.get("userId"));
+    }
+
+    @Test
+    @WithMockUser
+    void request_ShouldGenerateRequestId_WhenNoneIsSent() throws Exception {
+        mockMvc.perform(get("/api/events"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Request-ID", matchesPattern("[0-9a-f]{16,32}")));
+    }
+}
@@ -0,0 +1,73 @@
+package com.vibecodingdemo.backend.integration;
+
+import com.vibecodingdemo.backend.entity.Event;
+import com.vibecodingdemo.backend.entity.User;
+import com.vibecodingdemo.backend.exception.EventNotFoundException;
+import com.vibecodingdemo.backend.repository.EventRepository;
+import com.vibecodingdemo.backend.repository.SubscriptionRepository;
+import com.vibecodingdemo.backend.repository.UserRepository;
+import com.vibecodingdemo.backend.service.KafkaListenerService;
+import com.vibecodingdemo.backend.service.SubscriptionService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Foreign key failures on the H2 test schema, whose constraint names are generated by Hibernate
+ * rather than taken from the Flyway migrations. Not transactional: the service's lookup after a
+ * failed insert runs in its own transaction and must see the committed test data.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class SubscriptionIntegrityIntegrationTest {
+
+    @Autowired
+    private SubscriptionService subscriptionService;
+
+    @Autowired
+    private SubscriptionRepository subscriptionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @MockBean
+    private KafkaListenerService kafkaListenerService;
+
+    @AfterEach
+    void tearDown() {
+        subscriptionRepository.deleteAll();
+        eventRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void subscribeToEvent_WithMissingUser_ThrowsUserNotFound() {
+        // Given
+        Event event = eventRepository.save(new Event("IntegritySystem", "IntegrityEvent", "integrity-topic", "Test"));
+
+        // When
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> subscriptionService.subscribeToEvent(Long.MAX_VALUE, event.getId()));
+
+        // Then
+        assertTrue(exception.getMessage().startsWith("User not found"));
+    }
+
+    @Test
+    void subscribeToEvent_WithMissingEvent_ThrowsEventNotFound() {
+        // Given
+        User user = userRepository.save(new User("integrity-user"));
+
+        // When & Then
+        assertThrows(EventNotFoundException.class,
+                () -> subscriptionService.subscribeToEvent(user.getId(), Long.MAX_VALUE));
+    }
+}
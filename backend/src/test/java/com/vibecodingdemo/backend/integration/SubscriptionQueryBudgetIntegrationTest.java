@@ -0,0 +1,96 @@
+package com.vibecodingdemo.backend.integration;
+
+import com.vibecodingdemo.backend.entity.Event;
+import com.vibecodingdemo.backend.entity.Subscription;
+import com.vibecodingdemo.backend.entity.User;
+import com.vibecodingdemo.backend.repository.EventRepository;
+import com.vibecodingdemo.backend.repository.SubscriptionRepository;
+import com.vibecodingdemo.backend.service.KafkaListenerService;
+import com.vibecodingdemo.backend.service.UserService;
+import com.vibecodingdemo.backend.util.JwtUtil;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * GET /api/subscriptions within its query budget, which the test profile enforces. Requests are
+ * authenticated with a JWT, so the user lookup of the authentication filter runs too but does not
+ * count against the budget. Fixtures are flushed and cleared before each request, so that their
+ * inserts are not counted and the handler's selects are not served from the persistence context.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+public class SubscriptionQueryBudgetIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private SubscriptionRepository subscriptionRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockBean
+    private KafkaListenerService kafkaListenerService;
+
+    private User testUser;
+    private String jwtToken;
+
+    @BeforeEach
+    void setUp() {
+        testUser = userService.registerUser("budgetuser");
+        jwtToken = jwtUtil.generateToken("budgetuser");
+    }
+
+    @Test
+    void testGetUserSubscriptions() throws Exception {
+        Event first = eventRepository.save(new Event("BudgetSystem", "FirstEvent", "budget-first-topic", "First"));
+        Event second = eventRepository.save(new Event("BudgetSystem", "SecondEvent", "budget-second-topic", "Second"));
+        subscriptionRepository.save(new Subscription(testUser, first));
+        subscriptionRepository.save(new Subscription(testUser, second));
+        flushAndClear();
+
+        mockMvc.perform(get("/api/subscriptions").header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[*].eventName", containsInAnyOrder("FirstEvent", "SecondEvent")));
+    }
+
+    @Test
+    void testGetUserSubscriptionsWithoutSubscriptions() throws Exception {
+        flushAndClear();
+
+        // The empty result needs the second statement, checking that the user exists
+        mockMvc.perform(get("/api/subscriptions").header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
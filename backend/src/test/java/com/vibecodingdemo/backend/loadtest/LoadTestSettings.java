@@ -0,0 +1,49 @@
+package com.vibecodingdemo.backend.loadtest;
+
+/**
+ * Load test parameters, read from {@code loadtest.*} system properties.
+ * <p>
+ * {@code ./gradlew loadTest} forwards {@code -Ploadtest.<name>=<value>} project properties, e.g.
+ * {@code ./gradlew loadTest -Ploadtest.rate=50 -Ploadtest.telegram.latency-ms=100}.
+ */
+record LoadTestSettings(
+        int topics,
+        int subscribersPerEvent,
+        int messagesPerSecond,
+        int durationSeconds,
+        long telegramLatencyMs,
+        double telegramRateLimitRatio,
+        double telegramErrorRatio,
+        long drainTimeoutSeconds,
+        long maxP99Ms) {
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Integer.getInteger("loadtest.topics", 4),
+                Integer.getInteger("loadtest.subscribers-per-event", 10),
+                Integer.getInteger("loadtest.rate", 20),
+                Integer.getInteger("loadtest.duration-seconds", 30),
+                Long.getLong("loadtest.telegram.latency-ms", 50),
+                doubleProperty("loadtest.telegram.rate-limit-ratio", 0.0),
+                doubleProperty("loadtest.telegram.error-ratio", 0.0),
+                Long.getLong("loadtest.drain-timeout-seconds", 30),
+                // 0 disables the latency budget check
+                Long.getLong("loadtest.max-p99-ms", 0));
+    }
+
+    private static double doubleProperty(String name, double defaultValue) {
+        String value = System.getProperty(name);
+        return value == null || value.isBlank() ? defaultValue : Double.parseDouble(value);
+    }
+
+    int totalMessages() {
+        return messagesPerSecond * durationSeconds;
+    }
+
+    /**
+     * Telegram calls expected if every message reaches every subscriber
+     */
+    long expectedDeliveries() {
+        return (long) totalMessages() * subscribersPerEvent;
+    }
+}
@@ -0,0 +1,271 @@
+package com.vibecodingdemo.backend.loadtest;
+
+import com.vibecodingdemo.backend.entity.Event;
+import com.vibecodingdemo.backend.entity.Subscription;
+import com.vibecodingdemo.backend.entity.User;
+import com.vibecodingdemo.backend.repository.EventRepository;
+import com.vibecodingdemo.backend.repository.SubscriptionRepository;
+import com.vibecodingdemo.backend.repository.UserRepository;
+import com.vibecodingdemo.backend.service.KafkaListenerService;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * End-to-end load test: messages are produced to an embedded Kafka broker at a fixed rate, go
+ * through the dynamic listeners and the notification fan-out, and are delivered to a local
+ * {@link TelegramApiStub}. The latency of every Telegram call is measured from the moment its
+ * message was scheduled to be produced, so a backed-up pipeline shows up in the histogram
+ * instead of slowing down the generator (no coordinated omission).
+ * <p>
+ * Excluded from {@code ./gradlew test}; run with {@code ./gradlew loadTest}, see
+ * {@link LoadTestSettings} for the parameters. The HdrHistogram percentile distribution is
+ * printed and written to {@code build/reports/loadtest/}.
+ */
+@SpringBootTest(properties = {
+        "spring.kafka.bootstrap-servers=${spring.embedded.kafka.brokers}",
+        // Keep per-message logging out of the measurement
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+        "logging.level.com.vibecodingdemo.backend=WARN"
+})
+@ActiveProfiles("test")
+@EmbeddedKafka(partitions = 1)
+@Tag("load")
+class NotificationLoadTest {
+
+    private static final Pattern MESSAGE_SEQUENCE = Pattern.compile("load-test #(\\d+)");
+    private static final String WARMUP_TITLE = "load-test warmup";
+
+    private static final LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+
+    // Shared with the stub's request threads
+    private static final AtomicLongArray scheduledSendNanos = new AtomicLongArray(settings.totalMessages());
+    private static final Histogram latencyMicros = new ConcurrentHistogram(3);
+    private static final LongAdder warmupDeliveries = new LongAdder();
+    private static final LongAdder measuredDeliveries = new LongAdder();
+    private static volatile long lastDeliveryNanos;
+
+    private static TelegramApiStub telegramApi;
+
+    @Autowired
+    private EmbeddedKafkaBroker embeddedKafka;
+
+    @Autowired
+    private KafkaTemplate<String, String> kafkaTemplate;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SubscriptionRepository subscriptionRepository;
+
+    @Autowired
+    private KafkaListenerService kafkaListenerService;
+
+    @DynamicPropertySource
+    static void telegramApiProperties(DynamicPropertyRegistry registry) throws IOException {
+        telegramApi = new TelegramApiStub(settings.telegramLatencyMs(), settings.telegramRateLimitRatio(),
+                settings.telegramErrorRatio(), NotificationLoadTest::onDelivered);
+        registry.add("telegram.api.base-url", telegramApi::baseUrl);
+    }
+
+    @AfterAll
+    static void stopTelegramApi() {
+        if (telegramApi != null) {
+            telegramApi.close();
+        }
+    }
+
+    private static void onDelivered(String requestBody) {
+        long now = System.nanoTime();
+        if (requestBody.contains(WARMUP_TITLE)) {
+            warmupDeliveries.increment();
+            return;
+        }
+        Matcher matcher = MESSAGE_SEQUENCE.matcher(requestBody);
+        if (matcher.find()) {
+            long scheduled = scheduledSendNanos.get(Integer.parseInt(matcher.group(1)));
+            latencyMicros.recordValue(TimeUnit.NANOSECONDS.toMicros(now - scheduled));
+            measuredDeliveries.increment();
+            lastDeliveryNanos = now;
+        }
+    }
+
+    @Test
+    void notificationThroughputAndLatency() throws Exception {
+        // Given
+        List<String> topics = createEventsAndSubscribers();
+        awaitCondition("listeners for all topics", 60,
+                () -> kafkaListenerService.getActiveTopics().containsAll(topics));
+
+        // Warm up consumers (partition assignment) and the JIT outside the measurement
+        for (String topic : topics) {
+            kafkaTemplate.send(topic, message(WARMUP_TITLE, 0));
+        }
+        long warmupExpected = (long) topics.size() * settings.subscribersPerEvent();
+        awaitCondition("warmup deliveries", 60, () -> warmupDeliveries.sum() >= warmupExpected);
+
+        // When
+        long startNanos = produceAtFixedRate(topics);
+        awaitDrained();
+
+        // Then
+        report(startNanos);
+        assertThat(measuredDeliveries.sum()).isPositive();
+        if (settings.telegramRateLimitRatio() == 0 && settings.telegramErrorRatio() == 0) {
+            assertThat(measuredDeliveries.sum()).isEqualTo(settings.expectedDeliveries());
+        }
+        if (settings.maxP99Ms() > 0) {
+            assertThat(latencyMicros.getValueAtPercentile(99.0) / 1000.0)
+                    .as("p99 latency (ms)")
+                    .isLessThanOrEqualTo((double) settings.maxP99Ms());
+        }
+    }
+
+    /**
+     * One event per topic, each with its own subscribers and Telegram chats
+     */
+    private List<String> createEventsAndSubscribers() {
+        List<String> topics = new ArrayList<>();
+        for (int t = 0; t < settings.topics(); t++) {
+            topics.add("load-test-topic-" + t);
+        }
+        embeddedKafka.addTopics(topics.toArray(String[]::new));
+
+        for (int t = 0; t < topics.size(); t++) {
+            Event event = eventRepository.save(
+                    new Event("LoadTest", "Load test event " + t, topics.get(t), "Generated by the load test"));
+
+            List<User> users = new ArrayList<>();
+            for (int s = 0; s < settings.subscribersPerEvent(); s++) {
+                User user = new User("loadtest-user-" + t + "-" + s);
+                user.setTelegramChatId(String.valueOf(1_000_000L + (long) t * settings.subscribersPerEvent() + s));
+                users.add(user);
+            }
+            List<Subscription> subscriptions = new ArrayList<>();
+            for (User user : userRepository.saveAll(users)) {
+                subscriptions.add(new Subscription(user, event));
+            }
+            subscriptionRepository.saveAll(subscriptions);
+        }
+        return topics;
+    }
+
+    /**
+     * Produce the configured number of messages round-robin across the topics
+     * @return the scheduled start time
+     */
+    private long produceAtFixedRate(List<String> topics) {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / settings.messagesPerSecond();
+        long startNanos = System.nanoTime();
+        for (int seq = 0; seq < settings.totalMessages(); seq++) {
+            long scheduled = startNanos + seq * intervalNanos;
+            long wait;
+            while ((wait = scheduled - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            scheduledSendNanos.set(seq, scheduled);
+            kafkaTemplate.send(topics.get(seq % topics.size()), message("load-test #" + seq, seq));
+        }
+        kafkaTemplate.flush();
+        return startNanos;
+    }
+
+    /**
+     * Wait until every expected delivery arrived, or deliveries stopped for the drain timeout
+     * (e.g. sends given up after rate limiting)
+     */
+    private void awaitDrained() throws InterruptedException {
+        long idleLimitNanos = TimeUnit.SECONDS.toNanos(settings.drainTimeoutSeconds());
+        long lastCount = -1;
+        long lastProgressNanos = System.nanoTime();
+        while (measuredDeliveries.sum() < settings.expectedDeliveries()
+                && System.nanoTime() - lastProgressNanos < idleLimitNanos) {
+            long count = measuredDeliveries.sum();
+            if (count != lastCount) {
+                lastCount = count;
+                lastProgressNanos = System.nanoTime();
+            }
+            Thread.sleep(100);
+        }
+    }
+
+    private static String message(String title, int seq) {
+        return "{\"event\":\"load-test\",\"system\":\"LoadTest\",\"title\":\"" + title + "\"," +
+                "\"message\":\"Synthetic notification generated by the load test\"," +
+                "\"severity\":\"info\",\"data\":{\"seq\":\"" + seq + "\"}}";
+    }
+
+    private void report(long startNanos) throws IOException {
+        long deliveries = measuredDeliveries.sum();
+        double elapsedSeconds = Math.max(lastDeliveryNanos - startNanos, 1) / 1e9;
+
+        StringBuilder summary = new StringBuilder()
+                .append("\n=== Notification load test ===\n")
+                .append(String.format("Settings:        %s%n", settings))
+                .append(String.format("Messages:        %d in %.1f s (%.1f msg/s)%n",
+                        settings.totalMessages(), elapsedSeconds, settings.totalMessages() / elapsedSeconds))
+                .append(String.format("Deliveries:      %d of %d expected (%.1f/s)%n",
+                        deliveries, settings.expectedDeliveries(), deliveries / elapsedSeconds))
+                .append(String.format("Telegram calls:  %d (429: %d, 5xx: %d)%n",
+                        telegramApi.getRequests(), telegramApi.getRateLimited(), telegramApi.getErrors()))
+                .append(String.format("Latency (ms):    p50 %.1f, p90 %.1f, p99 %.1f, p99.9 %.1f, max %.1f%n",
+                        latencyMicros.getValueAtPercentile(50.0) / 1000.0,
+                        latencyMicros.getValueAtPercentile(90.0) / 1000.0,
+                        latencyMicros.getValueAtPercentile(99.0) / 1000.0,
+                        latencyMicros.getValueAtPercentile(99.9) / 1000.0,
+                        latencyMicros.getMaxValue() / 1000.0));
+        System.out.println(summary);
+        latencyMicros.outputPercentileDistribution(System.out, 1000.0);
+
+        Path reportDir = Path.of("build", "reports", "loadtest");
+        Files.createDirectories(reportDir);
+        Files.writeString(reportDir.resolve("summary.txt"), summary);
+        // Percentile distribution in milliseconds, plottable with the HdrHistogram plotter
+        try (PrintStream out = new PrintStream(Files.newOutputStream(reportDir.resolve("latency.hgrm")))) {
+            latencyMicros.outputPercentileDistribution(out, 1000.0);
+        }
+    }
+
+    private static void awaitCondition(String description, long timeoutSeconds, BooleanSupplier condition)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Timed out after " + timeoutSeconds + " s waiting for " + description);
+            }
+            Thread.sleep(100);
+        }
+    }
+}
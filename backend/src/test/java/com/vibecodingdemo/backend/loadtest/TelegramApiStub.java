@@ -0,0 +1,129 @@
+package com.vibecodingdemo.backend.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Local stand-in for {@code api.telegram.org/bot<token>/sendMessage}.
+ * <p>
+ * Every call waits for the configured latency, then answers like the Bot API: a 429 with
+ * {@code retry_after} for the configured share of calls, a 500 for another share, and
+ * {@code {"ok":true}} otherwise. The request body of each successful call is handed to a
+ * callback so the caller can correlate it with the message it produced.
+ */
+final class TelegramApiStub implements AutoCloseable {
+
+    private static final String OK_RESPONSE = "{\"ok\":true,\"result\":{\"message_id\":1}}";
+    private static final String RATE_LIMITED_RESPONSE =
+            "{\"ok\":false,\"error_code\":429,\"description\":\"Too Many Requests: retry after 1\"," +
+            "\"parameters\":{\"retry_after\":1}}";
+    private static final String ERROR_RESPONSE =
+            "{\"ok\":false,\"error_code\":500,\"description\":\"Internal Server Error\"}";
+
+    private final long latencyMs;
+    private final double rateLimitRatio;
+    private final double errorRatio;
+    private final Consumer<String> onDelivered;
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder rateLimited = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    TelegramApiStub(long latencyMs, double rateLimitRatio, double errorRatio, Consumer<String> onDelivered)
+            throws IOException {
+        this.latencyMs = latencyMs;
+        this.rateLimitRatio = rateLimitRatio;
+        this.errorRatio = errorRatio;
+        this.onDelivered = onDelivered;
+
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", this::handle);
+        // One virtual thread per call, so the simulated latency does not serialize requests
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    /**
+     * @return the value for {@code telegram.api.base-url}
+     */
+    String baseUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            requests.increment();
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+
+            if (!exchange.getRequestURI().getPath().endsWith("/sendMessage")) {
+                respond(exchange, 404, "{\"ok\":false,\"error_code\":404,\"description\":\"Not Found\"}");
+                return;
+            }
+
+            if (latencyMs > 0) {
+                Thread.sleep(latencyMs);
+            }
+
+            double roll = ThreadLocalRandom.current().nextDouble();
+            if (roll < rateLimitRatio) {
+                rateLimited.increment();
+                respond(exchange, 429, RATE_LIMITED_RESPONSE);
+            } else if (roll < rateLimitRatio + errorRatio) {
+                errors.increment();
+                respond(exchange, 500, ERROR_RESPONSE);
+            } else {
+                delivered.increment();
+                onDelivered.accept(body);
+                respond(exchange, 200, OK_RESPONSE);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    long getRequests() {
+        return requests.sum();
+    }
+
+    long getDelivered() {
+        return delivered.sum();
+    }
+
+    long getRateLimited() {
+        return rateLimited.sum();
+    }
+
+    long getErrors() {
+        return errors.sum();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
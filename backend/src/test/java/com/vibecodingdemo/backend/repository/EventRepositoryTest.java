@@ -4,6 +4,7 @@ import com.vibecodingdemo.backend.entity.Event;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.util.List;
@@ -202,4 +203,55 @@ class EventRepositoryTest {
         assertThat(nonExistentEventNameEvents).isEmpty();
         assertThat(nonExistentDescriptionEvents).isEmpty();
     }
-} 
\ No newline at end of file
+
+    @Test
+    void shouldPageEventsByIdKeyset() {
+        // Given
+        Event event1 = eventRepository.save(new Event("paging-service", "event-a", "paging.events.a", "A"));
+        Event event2 = eventRepository.save(new Event("paging-service", "event-b", "paging.events.b", "B"));
+        Event event3 = eventRepository.save(new Event("paging-service", "event-c", "paging.events.c", "C"));
+
+        // When
+        List<Event> firstPage = eventRepository.findPageAfterId(0L, "paging-service", null, PageRequest.of(0, 2));
+        List<Event> secondPage = eventRepository.findPageAfterId(firstPage.get(1).getId(), "paging-service", null, PageRequest.of(0, 2));
+        List<Event> descending = eventRepository.findPageBeforeId(Long.MAX_VALUE, "paging-service", null, PageRequest.of(0, 2));
+
+        // Then
+        assertThat(firstPage).extracting(Event::getId).containsExactly(event1.getId(), event2.getId());
+        assertThat(secondPage).extracting(Event::getId).containsExactly(event3.getId());
+        assertThat(descending).extracting(Event::getId).containsExactly(event3.getId(), event2.getId());
+    }
+
+    @Test
+    void shouldFilterPagedEventsByEscapedNamePrefix() {
+        // Given
+        eventRepository.save(new Event("prefix-service", "order_created", "prefix.events.created", "Created"));
+        eventRepository.save(new Event("prefix-service", "orderXcreated", "prefix.events.x", "Wildcard trap"));
+        eventRepository.save(new Event("other-service", "order_created", "other.events.created", "Other system"));
+
+        // When
+        List<Event> events = eventRepository.findPageAfterId(0L, "prefix-service", "order!_%", PageRequest.of(0, 10));
+
+        // Then
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getEventName()).isEqualTo("order_created");
+    }
+
+    @Test
+    void shouldSearchEventsAcrossFieldsRankingEventNameFirst() {
+        // Given
+        Event byDescription = eventRepository.save(new Event("billing-service", "invoice-sent", "billing.invoice.sent", "Sent after a refund is issued"));
+        Event byEventName = eventRepository.save(new Event("payment-service", "refund-issued", "payment.events.refund", "Money returned"));
+        eventRepository.save(new Event("user-service", "user-created", "user.events.created", "Unrelated"));
+
+        // When
+        List<Event> results = eventRepository.searchEvents("REFUND", 0, 10);
+        List<Event> secondPage = eventRepository.searchEvents("refund", 1, 10);
+        List<Event> wildcardOnly = eventRepository.searchEvents("%", 0, 10);
+
+        // Then
+        assertThat(results).extracting(Event::getId).containsExactly(byEventName.getId(), byDescription.getId());
+        assertThat(secondPage).extracting(Event::getId).containsExactly(byDescription.getId());
+        assertThat(wildcardOnly).isEmpty();
+    }
+}
@@ -1,5 +1,6 @@
 package com.vibecodingdemo.backend.repository;
 
+import com.vibecodingdemo.backend.dto.SubscriptionDTO;
 import com.vibecodingdemo.backend.entity.Event;
 import com.vibecodingdemo.backend.entity.Subscription;
 import com.vibecodingdemo.backend.entity.User;
@@ -7,12 +8,15 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DataJpaTest
 @ActiveProfiles("test")
@@ -267,4 +271,103 @@ class SubscriptionRepositoryTest {
         assertThat(loadedEvent.getSubscriptions()).hasSize(1);
         assertThat(loadedEvent.getSubscriptions().iterator().next().getUser()).isEqualTo(user1);
     }
-} 
\ No newline at end of file
+
+    @Test
+    void shouldPageUserSubscriptionsByIdKeyset() {
+        // Given
+        Subscription sub1 = subscriptionRepository.save(new Subscription(user1, event1));
+        Subscription sub2 = subscriptionRepository.save(new Subscription(user1, event2));
+        Subscription sub3 = subscriptionRepository.save(new Subscription(user1, event3));
+        subscriptionRepository.save(new Subscription(user2, event1));
+
+        // When
+        List<SubscriptionDTO> firstPage = subscriptionRepository.findPageByUsernameAfterId("user1", 0L, null, PageRequest.of(0, 2));
+        List<SubscriptionDTO> secondPage = subscriptionRepository.findPageByUsernameAfterId("user1", sub2.getId(), null, PageRequest.of(0, 2));
+        List<SubscriptionDTO> filtered = subscriptionRepository.findPageByUsernameBeforeId("user1", Long.MAX_VALUE, "user-service", PageRequest.of(0, 10));
+
+        // Then
+        assertThat(firstPage).extracting(SubscriptionDTO::getId).containsExactly(sub1.getId(), sub2.getId());
+        assertThat(secondPage).extracting(SubscriptionDTO::getId).containsExactly(sub3.getId());
+        assertThat(filtered).extracting(SubscriptionDTO::getId).containsExactly(sub2.getId(), sub1.getId());
+    }
+
+    @Test
+    void shouldProjectUserSubscriptionsToDTOs() {
+        // Given
+        Subscription sub1 = subscriptionRepository.save(new Subscription(user1, event1));
+        Subscription sub2 = subscriptionRepository.save(new Subscription(user1, event3));
+        subscriptionRepository.save(new Subscription(user2, event2));
+
+        // When
+        List<SubscriptionDTO> subscriptions = subscriptionRepository.findDTOsByUsername("user1");
+
+        // Then
+        assertThat(subscriptions).hasSize(2);
+        assertThat(subscriptions.get(0).getId()).isEqualTo(sub1.getId());
+        assertThat(subscriptions.get(0).getEventId()).isEqualTo(event1.getId());
+        assertThat(subscriptions.get(0).getEventName()).isEqualTo("user-created");
+        assertThat(subscriptions.get(0).getSystemName()).isEqualTo("user-service");
+        assertThat(subscriptions.get(0).getSubscribed()).isTrue();
+        assertThat(subscriptions.get(1).getId()).isEqualTo(sub2.getId());
+        assertThat(subscriptions.get(1).getEventName()).isEqualTo("order-placed");
+        assertThat(subscriptionRepository.existsByUserUsernameAndEventId("user1", event3.getId())).isTrue();
+        assertThat(subscriptionRepository.existsByUserUsernameAndEventId("user2", event3.getId())).isFalse();
+    }
+
+    @Test
+    void shouldInsertSubscriptionOnlyOnce() {
+        // When
+        Optional<SubscriptionDTO> created = subscriptionRepository.insertIfAbsent(user1.getId(), event2.getId());
+
+        // Then
+        assertThat(created).isPresent();
+        assertThat(created.get().getId()).isNotNull();
+        assertThat(created.get().getEventId()).isEqualTo(event2.getId());
+        assertThat(created.get().getEventName()).isEqualTo("user-updated");
+        assertThat(created.get().getSystemName()).isEqualTo("user-service");
+        assertThat(subscriptionRepository.existsByUserIdAndEventId(user1.getId(), event2.getId())).isTrue();
+
+        // A duplicate is reported as empty rather than an error
+        assertThat(subscriptionRepository.insertIfAbsent(user1.getId(), event2.getId())).isEmpty();
+    }
+
+    @Test
+    void shouldRejectSubscriptionToMissingEvent() {
+        // When & Then
+        assertThatThrownBy(() -> subscriptionRepository.insertIfAbsent(user1.getId(), Long.MAX_VALUE))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    void shouldDeleteSubscriptionByUserIdAndEventId() {
+        // Given
+        subscriptionRepository.save(new Subscription(user1, event1));
+
+        // When
+        int deleted = subscriptionRepository.deleteByUserIdAndEventId(user1.getId(), event1.getId());
+        int deletedAgain = subscriptionRepository.deleteByUserIdAndEventId(user1.getId(), event1.getId());
+
+        // Then
+        assertThat(deleted).isEqualTo(1);
+        assertThat(deletedAgain).isZero();
+        assertThat(subscriptionRepository.existsByUserIdAndEventId(user1.getId(), event1.getId())).isFalse();
+    }
+
+    @Test
+    void shouldBatchInsertAndBulkDeleteSubscriptions() {
+        // Given
+        subscriptionRepository.save(new Subscription(user1, event1));
+
+        // When
+        subscriptionRepository.batchInsert(user1.getId(), List.of(event2.getId(), event3.getId()));
+        int deleted = subscriptionRepository.deleteByUserIdAndEventIdIn(user1.getId(), List.of(event1.getId(), event2.getId()));
+
+        // Then
+        assertThat(deleted).isEqualTo(2);
+        assertThat(subscriptionRepository.findEventIdsByUserId(user1.getId())).containsExactly(event3.getId());
+        assertThat(subscriptionRepository.findDTOsByUserId(user1.getId()))
+                .extracting(SubscriptionDTO::getEventName)
+                .containsExactly("order-placed");
+        assertThat(eventRepository.findExistingIds(List.of(event1.getId(), Long.MAX_VALUE))).containsExactly(event1.getId());
+    }
+}
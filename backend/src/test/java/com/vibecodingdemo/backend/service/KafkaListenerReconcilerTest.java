@@ -0,0 +1,147 @@
+package com.vibecodingdemo.backend.service;
+
+import com.vibecodingdemo.backend.repository.EventRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class KafkaListenerReconcilerTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private KafkaListenerService kafkaListenerService;
+
+    private KafkaListenerReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        reconciler = new KafkaListenerReconciler(eventRepository, kafkaListenerService, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        reconciler.shutdown();
+    }
+
+    @Test
+    void testReconcile_SwapsChangedTopic() {
+        // Given
+        when(eventRepository.findAllKafkaTopics()).thenReturn(List.of("orders", "payments-v2"));
+        when(kafkaListenerService.getActiveTopics()).thenReturn(Set.of("orders", "payments"));
+        when(kafkaListenerService.stopListeningToTopic("payments")).thenReturn(true);
+        when(kafkaListenerService.startListeningToTopic("payments-v2")).thenReturn(true);
+
+        // When
+        int remaining = reconciler.reconcile();
+
+        // Then
+        assertEquals(0, remaining);
+        verify(kafkaListenerService).stopListeningToTopic("payments");
+        verify(kafkaListenerService).startListeningToTopic("payments-v2");
+        verify(kafkaListenerService, never()).startListeningToTopic("orders");
+        verify(kafkaListenerService, never()).stopListeningToTopic("orders");
+    }
+
+    @Test
+    void testReconcile_AppliesAtMostOneBatchAndStopsFirst() {
+        // Given
+        when(eventRepository.findAllKafkaTopics()).thenReturn(List.of("a", "b", "c"));
+        when(kafkaListenerService.getActiveTopics()).thenReturn(Set.of("stale"));
+        when(kafkaListenerService.stopListeningToTopic("stale")).thenReturn(true);
+        when(kafkaListenerService.startListeningToTopic(anyString())).thenReturn(true);
+
+        // When
+        int remaining = reconciler.reconcile();
+
+        // Then
+        assertEquals(2, remaining);
+        verify(kafkaListenerService).stopListeningToTopic("stale");
+        verify(kafkaListenerService, times(1)).startListeningToTopic(anyString());
+    }
+
+    @Test
+    void testReconcile_InSyncDoesNothing() {
+        // Given
+        when(eventRepository.findAllKafkaTopics()).thenReturn(List.of("orders"));
+        when(kafkaListenerService.getActiveTopics()).thenReturn(Set.of("orders"));
+
+        // When
+        int remaining = reconciler.reconcile();
+
+        // Then
+        assertEquals(0, remaining);
+        verify(kafkaListenerService, never()).startListeningToTopic(anyString());
+        verify(kafkaListenerService, never()).stopListeningToTopic(anyString());
+    }
+
+    @Test
+    void testReconcile_FailedStartIsNotRetriedInSamePass() {
+        // Given
+        when(eventRepository.findAllKafkaTopics()).thenReturn(List.of("broken"));
+        when(kafkaListenerService.getActiveTopics()).thenReturn(Set.of());
+        when(kafkaListenerService.startListeningToTopic("broken")).thenThrow(new IllegalStateException("boom"));
+
+        // When
+        int remaining = reconciler.reconcile();
+
+        // Then
+        assertEquals(0, remaining);
+        verify(kafkaListenerService, times(1)).startListeningToTopic("broken");
+    }
+
+    @Test
+    void testReconcile_PersistentFailuresBeyondBatchSizeDoNotBlockOtherTopics() {
+        // Given: more failing topics than the batch size, plus one that can start
+        List<String> topics = List.of("broken-1", "broken-2", "broken-3", "broken-4", "broken-5", "healthy");
+        when(eventRepository.findAllKafkaTopics()).thenReturn(topics);
+        Set<String> active = new HashSet<>();
+        when(kafkaListenerService.getActiveTopics()).thenAnswer(invocation -> Set.copyOf(active));
+        when(kafkaListenerService.startListeningToTopic(anyString())).thenAnswer(invocation -> {
+            String topic = invocation.getArgument(0);
+            return "healthy".equals(topic) && active.add(topic);
+        });
+
+        // When: follow-up passes run as long as work remains
+        int passes = 0;
+        while (reconciler.reconcile() > 0) {
+            passes++;
+            assertTrue(passes < topics.size(), "reconciler keeps requesting passes");
+        }
+
+        // Then: every topic was attempted exactly once, and the next pass has nothing to do
+        for (String topic : topics) {
+            verify(kafkaListenerService, times(1)).startListeningToTopic(topic);
+        }
+        assertEquals(0, reconciler.reconcile());
+        verify(kafkaListenerService, times(topics.size())).startListeningToTopic(anyString());
+    }
+
+    @Test
+    void testReconcilePeriodically_RetriesFailedTopics() {
+        // Given
+        when(eventRepository.findAllKafkaTopics()).thenReturn(List.of("flaky"));
+        when(kafkaListenerService.getActiveTopics()).thenReturn(Set.of());
+        when(kafkaListenerService.startListeningToTopic("flaky")).thenReturn(false).thenReturn(true);
+        reconciler.reconcile();
+
+        // When
+        reconciler.reconcilePeriodically();
+
+        // Then
+        verify(kafkaListenerService, timeout(2000).times(2)).startListeningToTopic("flaky");
+    }
+}
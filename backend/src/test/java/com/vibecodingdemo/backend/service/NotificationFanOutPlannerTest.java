@@ -0,0 +1,62 @@
+package com.vibecodingdemo.backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NotificationFanOutPlannerTest {
+
+    private final NotificationFanOutPlanner planner = new NotificationFanOutPlanner();
+
+    @Test
+    void testPlan_SharedChannelIsSentToOnce() {
+        // Given
+        List<NotificationFanOutPlanner.Subscriber> subscribers = List.of(
+                new NotificationFanOutPlanner.Subscriber("alice", "100", "-500; 200"),
+                new NotificationFanOutPlanner.Subscriber("bob", "300", "-500"),
+                new NotificationFanOutPlanner.Subscriber("carol", null, " -500 "));
+
+        // When
+        NotificationFanOutPlanner.Plan plan = planner.plan(subscribers);
+
+        // Then
+        assertEquals(List.of("100", "-500", "200", "300"), List.copyOf(plan.getChatIds()));
+        assertEquals(Set.of("alice", "bob", "carol"), plan.getUsernames("-500"));
+        assertEquals(Set.of("alice"), plan.getUsernames("100"));
+        assertEquals(2, plan.getDuplicateCount());
+        assertEquals(3, plan.getSubscriberCount());
+    }
+
+    @Test
+    void testPlan_OwnChatRepeatedInRecipientsIsSentToOnce() {
+        // Given
+        List<NotificationFanOutPlanner.Subscriber> subscribers = List.of(
+                new NotificationFanOutPlanner.Subscriber("alice", "100", "100;100"));
+
+        // When
+        NotificationFanOutPlanner.Plan plan = planner.plan(subscribers);
+
+        // Then
+        assertEquals(Set.of("100"), plan.getChatIds());
+        assertEquals(Set.of("alice"), plan.getUsernames("100"));
+    }
+
+    @Test
+    void testPlan_SubscribersWithoutTargetsAreReported() {
+        // Given
+        List<NotificationFanOutPlanner.Subscriber> subscribers = List.of(
+                new NotificationFanOutPlanner.Subscriber("alice", " ", ";;"),
+                new NotificationFanOutPlanner.Subscriber("bob", "300", null));
+
+        // When
+        NotificationFanOutPlanner.Plan plan = planner.plan(subscribers);
+
+        // Then
+        assertEquals(Set.of("300"), plan.getChatIds());
+        assertEquals(List.of("alice"), plan.getUsersWithoutTargets());
+        assertTrue(plan.getUsernames("unknown").isEmpty());
+    }
+}
@@ -0,0 +1,202 @@
+package com.vibecodingdemo.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TelegramDeliverySchedulerTest {
+
+    private static final String TEST_CHAT_ID = "123456789";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Mock
+    private NotificationTransport transport;
+
+    private RecipientHealthRegistry recipientHealthRegistry;
+    private final NotificationLogSummary logSummary = new NotificationLogSummary(10000);
+    private ExecutorService deliveryExecutor;
+    private TelegramDeliveryScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        recipientHealthRegistry = new RecipientHealthRegistry(5);
+        deliveryExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        scheduler = new TelegramDeliveryScheduler(transport, recipientHealthRegistry,
+                deliveryExecutor, ObservationRegistry.NOOP, logSummary, 3, 10, 1000, 16);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
+        deliveryExecutor.shutdownNow();
+    }
+
+    @Test
+    void testDeliver_BlockedBotIsNotRetriedAndSuppressed() {
+        // Given
+        when(transport.send(TEST_CHAT_ID, "hi")).thenReturn(TelegramSendResult.fromErrorResponse(403,
+                "{\"ok\":false,\"error_code\":403,\"description\":\"Forbidden: bot was blocked by the user\"}",
+                OBJECT_MAPPER));
+
+        // When
+        TelegramDeliveryScheduler.DeliveryStatus status = scheduler.deliver(TEST_CHAT_ID, "hi");
+
+        // Then
+        assertEquals(TelegramDeliveryScheduler.DeliveryStatus.FAILED, status);
+        verify(transport, times(1)).send(anyString(), anyString());
+        assertTrue(recipientHealthRegistry.isSuppressed(TEST_CHAT_ID));
+    }
+
+    @Test
+    void testDeliver_SuppressedChatIsSkipped() {
+        // Given
+        when(transport.send(TEST_CHAT_ID, "hi")).thenReturn(TelegramSendResult.fromErrorResponse(400,
+                "{\"ok\":false,\"error_code\":400,\"description\":\"Bad Request: chat not found\"}",
+                OBJECT_MAPPER));
+        scheduler.deliver(TEST_CHAT_ID, "hi");
+
+        // When
+        TelegramDeliveryScheduler.DeliveryStatus status = scheduler.deliver(TEST_CHAT_ID, "hello again");
+
+        // Then
+        assertEquals(TelegramDeliveryScheduler.DeliveryStatus.SUPPRESSED, status);
+        verify(transport, never()).send(TEST_CHAT_ID, "hello again");
+        assertEquals("RECIPIENT_GONE", recipientHealthRegistry.getSuppressed(List.of(TEST_CHAT_ID)).get(0).getErrorClass());
+    }
+
+    @Test
+    void testDeliver_RepeatedPermanentFailuresSuppressChat() {
+        // Given
+        when(transport.send(eq(TEST_CHAT_ID), anyString())).thenReturn(TelegramSendResult.fromErrorResponse(400,
+                "{\"ok\":false,\"error_code\":400,\"description\":\"Bad Request: can't parse entities\"}",
+                OBJECT_MAPPER));
+
+        // When
+        for (int i = 0; i < 4; i++) {
+            scheduler.deliver(TEST_CHAT_ID, "message " + i);
+        }
+        boolean suppressedBeforeThreshold = recipientHealthRegistry.isSuppressed(TEST_CHAT_ID);
+        scheduler.deliver(TEST_CHAT_ID, "message 4");
+
+        // Then
+        assertFalse(suppressedBeforeThreshold);
+        assertTrue(recipientHealthRegistry.isSuppressed(TEST_CHAT_ID));
+    }
+
+    @Test
+    void testDeliver_TransientFailureIsRetriedInBackground() {
+        // Given
+        when(transport.send(TEST_CHAT_ID, "hi"))
+                .thenReturn(TelegramSendResult.fromErrorResponse(502, null, OBJECT_MAPPER))
+                .thenReturn(TelegramSendResult.delivered());
+
+        // When
+        TelegramDeliveryScheduler.DeliveryStatus status = scheduler.deliver(TEST_CHAT_ID, "hi");
+
+        // Then
+        assertEquals(TelegramDeliveryScheduler.DeliveryStatus.RETRY_SCHEDULED, status);
+        verify(transport, timeout(2000).times(2)).send(TEST_CHAT_ID, "hi");
+        assertFalse(recipientHealthRegistry.isSuppressed(TEST_CHAT_ID));
+    }
+
+    @Test
+    void testDeliver_GivesUpAfterMaxAttempts() {
+        // Given
+        when(transport.send(TEST_CHAT_ID, "hi"))
+                .thenReturn(TelegramSendResult.transientFailure("Connection reset"));
+
+        // When
+        scheduler.deliver(TEST_CHAT_ID, "hi");
+
+        // Then
+        verify(transport, timeout(2000).times(3)).send(TEST_CHAT_ID, "hi");
+        verify(transport, after(200).times(3)).send(TEST_CHAT_ID, "hi");
+    }
+
+    @Test
+    void testDeliver_ConcurrentRetriesStayWithinMaxConcurrency() throws Exception {
+        // Given
+        TelegramDeliveryScheduler limitedScheduler = new TelegramDeliveryScheduler(transport, recipientHealthRegistry,
+                deliveryExecutor, ObservationRegistry.NOOP, logSummary, 3, 10, 1000, 2);
+        Map<String, AtomicInteger> callsPerChat = new ConcurrentHashMap<>();
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        when(transport.send(anyString(), eq("hi"))).thenAnswer(invocation -> {
+            String chatId = invocation.getArgument(0);
+            int current = inFlight.incrementAndGet();
+            maxInFlight.accumulateAndGet(current, Math::max);
+            try {
+                if (callsPerChat.computeIfAbsent(chatId, key -> new AtomicInteger()).incrementAndGet() == 1) {
+                    // First attempts fail at once, so all retries come due together
+                    return TelegramSendResult.fromErrorResponse(502, null, OBJECT_MAPPER);
+                }
+                Thread.sleep(50);
+                return TelegramSendResult.delivered();
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        });
+
+        // When
+        try {
+            for (int i = 0; i < 10; i++) {
+                limitedScheduler.deliver("chat-" + i, "hi");
+            }
+
+            // Then
+            verify(transport, timeout(5000).times(20)).send(anyString(), eq("hi"));
+            assertTrue(maxInFlight.get() <= 2, "max in-flight sends: " + maxInFlight.get());
+        } finally {
+            limitedScheduler.shutdown();
+        }
+    }
+
+    @Test
+    void testRetryDelay_UsesRetryAfterForRateLimiting() {
+        // Given
+        TelegramSendResult rateLimited = TelegramSendResult.fromErrorResponse(429,
+                "{\"ok\":false,\"error_code\":429,\"description\":\"Too Many Requests: retry after 5\","
+                        + "\"parameters\":{\"retry_after\":5}}",
+                OBJECT_MAPPER);
+
+        // When
+        long delayMs = scheduler.retryDelayMs(rateLimited, 1);
+
+        // Then
+        assertEquals(TelegramSendResult.Outcome.RATE_LIMITED, rateLimited.getOutcome());
+        assertEquals(Duration.ofSeconds(5), rateLimited.getRetryAfter());
+        // Capped by the max backoff of this scheduler
+        assertEquals(1000, delayMs);
+    }
+
+    @Test
+    void testClassification_MalformedMessageIsPermanentButRecipientIsNotGone() {
+        // When
+        TelegramSendResult result = TelegramSendResult.fromErrorResponse(400,
+                "{\"ok\":false,\"error_code\":400,\"description\":\"Bad Request: can't parse entities\"}",
+                OBJECT_MAPPER);
+
+        // Then
+        assertEquals(TelegramSendResult.Outcome.PERMANENT_FAILURE, result.getOutcome());
+        assertFalse(result.isRetryable());
+        assertFalse(result.isRecipientGone());
+    }
+}
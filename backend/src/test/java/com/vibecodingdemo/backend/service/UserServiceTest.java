@@ -2,6 +2,7 @@ package com.vibecodingdemo.backend.service;
 
 import com.vibecodingdemo.backend.entity.User;
 import com.vibecodingdemo.backend.repository.UserRepository;
+import com.vibecodingdemo.backend.security.AuthenticatedUser;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -167,6 +168,8 @@ class UserServiceTest {
         assertEquals(username, result.getUsername());
         assertTrue(result.getAuthorities().stream()
                 .anyMatch(auth -> auth.getAuthority().equals("USER")));
+        assertInstanceOf(AuthenticatedUser.class, result);
+        assertEquals(testUser.getId(), ((AuthenticatedUser) result).getUserId());
         verify(userRepository).findByUsername(username);
     }
 
@@ -0,0 +1,140 @@
+package com.vibecodingdemo.backend.service.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.listener.MessageListenerContainer;
+
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class KafkaListenerContainerRegistryTest {
+
+    private KafkaListenerContainerRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new KafkaListenerContainerRegistry(1000);
+        registry.start();
+    }
+
+    @Test
+    void testStartIfAbsent_SecondStartDoesNotCreateDuplicate() {
+        // Given
+        MessageListenerContainer container = mock(MessageListenerContainer.class);
+        AtomicInteger created = new AtomicInteger();
+
+        // When
+        boolean first = registry.startIfAbsent("orders", topic -> {
+            created.incrementAndGet();
+            return container;
+        });
+        boolean second = registry.startIfAbsent("orders", topic -> {
+            created.incrementAndGet();
+            return mock(MessageListenerContainer.class);
+        });
+
+        // Then
+        assertTrue(first);
+        assertFalse(second);
+        assertEquals(1, created.get());
+        verify(container, times(1)).start();
+        assertEquals(Set.of("orders"), registry.getTopics());
+    }
+
+    @Test
+    void testStartIfAbsent_FailedStartIsNotRegistered() {
+        // Given
+        MessageListenerContainer container = mock(MessageListenerContainer.class);
+        doThrow(new IllegalStateException("boom")).when(container).start();
+
+        // When / Then
+        assertThrows(IllegalStateException.class, () -> registry.startIfAbsent("orders", topic -> container));
+        assertFalse(registry.contains("orders"));
+    }
+
+    @Test
+    void testStop_RemovesAndStopsContainer() {
+        // Given
+        MessageListenerContainer container = mock(MessageListenerContainer.class);
+        registry.startIfAbsent("orders", topic -> container);
+
+        // When
+        boolean stopped = registry.stop("orders");
+
+        // Then
+        assertTrue(stopped);
+        assertFalse(registry.contains("orders"));
+        verify(container).stop();
+        assertFalse(registry.stop("orders"));
+    }
+
+    @Test
+    void testLifecycleStop_StopsAllContainersAndRejectsNewOnes() {
+        // Given
+        MessageListenerContainer orders = mockAsyncStoppingContainer();
+        MessageListenerContainer payments = mockAsyncStoppingContainer();
+        registry.startIfAbsent("orders", topic -> orders);
+        registry.startIfAbsent("payments", topic -> payments);
+
+        // When
+        registry.stop();
+
+        // Then
+        verify(orders).stop(any(Runnable.class));
+        verify(payments).stop(any(Runnable.class));
+        assertTrue(registry.getTopics().isEmpty());
+        assertFalse(registry.isRunning());
+        assertThrows(IllegalStateException.class,
+                () -> registry.startIfAbsent("late", topic -> mock(MessageListenerContainer.class)));
+    }
+
+    private static MessageListenerContainer mockAsyncStoppingContainer() {
+        MessageListenerContainer container = mock(MessageListenerContainer.class);
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(container).stop(any(Runnable.class));
+        return container;
+    }
+
+    @Test
+    void testStop_StopsContainerWhoseStartWasInProgress() throws Exception {
+        // Given: a start that is still inside container.start() when shutdown begins
+        MessageListenerContainer container = mock(MessageListenerContainer.class);
+        CountDownLatch starting = new CountDownLatch(1);
+        CountDownLatch releaseStart = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            starting.countDown();
+            releaseStart.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(container).start();
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(container).stop(any(Runnable.class));
+        Thread startThread = new Thread(() -> registry.startIfAbsent("orders", topic -> container));
+        startThread.start();
+        assertTrue(starting.await(5, TimeUnit.SECONDS));
+
+        // When
+        Thread stopThread = new Thread(registry::stop);
+        stopThread.start();
+        Thread.sleep(100);
+        releaseStart.countDown();
+        startThread.join(5000);
+        stopThread.join(5000);
+
+        // Then
+        verify(container).stop(any(Runnable.class));
+        assertFalse(registry.isRunning());
+        assertTrue(registry.getTopics().isEmpty());
+        assertThrows(IllegalStateException.class,
+                () -> registry.startIfAbsent("payments", topic -> mock(MessageListenerContainer.class)));
+    }
+}
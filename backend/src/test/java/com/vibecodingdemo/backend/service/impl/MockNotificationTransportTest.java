@@ -0,0 +1,82 @@
+package com.vibecodingdemo.backend.service.impl;
+
+import com.vibecodingdemo.backend.service.TelegramSendResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MockNotificationTransportTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void send_ShouldDeliverAndRecord_WhenNoErrorsConfigured() {
+        // Given
+        MockNotificationTransport transport = new MockNotificationTransport(meterRegistry, 0, 0, 0, 0, 0, 2);
+
+        // When
+        TelegramSendResult first = transport.send("1", "one");
+        transport.send("2", "two");
+        transport.send("3", "three");
+
+        // Then
+        assertTrue(first.isDelivered());
+        assertEquals(3, transport.getSendCount(TelegramSendResult.Outcome.DELIVERED));
+        assertEquals(3.0, meterRegistry.get("notification.mock.sends").tag("outcome", "delivered").counter().count());
+        List<MockNotificationTransport.RecordedSend> recorded = transport.getRecordedSends();
+        assertEquals(List.of("2", "3"), recorded.stream().map(MockNotificationTransport.RecordedSend::chatId).toList());
+    }
+
+    @Test
+    void send_ShouldRateLimitLikeTelegram_WhenRateLimitRatioIsOne() {
+        // Given
+        MockNotificationTransport transport = new MockNotificationTransport(meterRegistry, 0, 0, 1.0, 0, 0, 10);
+
+        // When
+        TelegramSendResult result = transport.send("1", "hi");
+
+        // Then
+        assertTrue(result.isRetryable());
+        assertEquals(Duration.ofSeconds(1), result.getRetryAfter());
+        assertEquals(1, transport.getSendCount(TelegramSendResult.Outcome.RATE_LIMITED));
+    }
+
+    @Test
+    void send_ShouldFailPermanentlyWithoutRecipientGone_WhenPermanentErrorRatioIsOne() {
+        // Given
+        MockNotificationTransport transport = new MockNotificationTransport(meterRegistry, 0, 0, 0, 0, 1.0, 10);
+
+        // When
+        TelegramSendResult result = transport.send("1", "hi");
+
+        // Then
+        assertEquals(TelegramSendResult.Outcome.PERMANENT_FAILURE, result.getOutcome());
+        assertFalse(result.isRetryable());
+        // A random failure must not suppress the chat on its first hit
+        assertFalse(result.isRecipientGone());
+    }
+
+    @Test
+    void reset_ShouldClearCountsAndRecordedSends() {
+        // Given
+        MockNotificationTransport transport = new MockNotificationTransport(meterRegistry, 0, 0, 0, 0, 0, 10);
+        transport.send("1", "hi");
+
+        // When
+        transport.reset();
+
+        // Then
+        assertEquals(0, transport.getSendCount(TelegramSendResult.Outcome.DELIVERED));
+        assertTrue(transport.getRecordedSends().isEmpty());
+    }
+
+    @Test
+    void constructor_ShouldRejectRatiosAboveOne() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new MockNotificationTransport(meterRegistry, 0, 0, 0.5, 0.5, 0.5, 10));
+    }
+}
@@ -0,0 +1,57 @@
+package com.vibecodingdemo.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvRecordReaderTest {
+
+    @Test
+    void readRecord_ParsesQuotedFieldsAndLineNumbers() throws IOException {
+        // Given
+        CsvRecordReader reader = new CsvRecordReader(new StringReader(
+                "a,b,c\r\n" +
+                "\"x, y\",\"say \"\"hi\"\"\",\"multi\nline\"\n" +
+                "last,,\n"));
+
+        // When & Then
+        assertEquals(List.of("a", "b", "c"), reader.readRecord());
+        assertEquals(1, reader.getRecordLine());
+
+        assertEquals(List.of("x, y", "say \"hi\"", "multi\nline"), reader.readRecord());
+        assertEquals(2, reader.getRecordLine());
+
+        assertEquals(List.of("last", "", ""), reader.readRecord());
+        assertEquals(4, reader.getRecordLine());
+
+        assertNull(reader.readRecord());
+    }
+
+    @Test
+    void readRecord_UnterminatedQuote() throws IOException {
+        // Given
+        CsvRecordReader reader = new CsvRecordReader(new StringReader("\"never closed,a\n"));
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, reader::readRecord);
+    }
+
+    @Test
+    void formatRecord_QuotesOnlyWhenNeeded() throws IOException {
+        // Given
+        List<String> fields = Arrays.asList("plain", "with,comma", "with \"quote\"", null, "line\nbreak");
+
+        // When
+        String formatted = CsvRecordReader.formatRecord(fields);
+
+        // Then
+        assertEquals("plain,\"with,comma\",\"with \"\"quote\"\"\",,\"line\nbreak\"", formatted);
+        assertEquals(List.of("plain", "with,comma", "with \"quote\"", "", "line\nbreak"),
+                new CsvRecordReader(new StringReader(formatted)).readRecord());
+    }
+}
@@ -0,0 +1,32 @@
+package com.vibecodingdemo.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PathPrefixTrieTest {
+
+    @Test
+    void findLongestPrefix_ShouldReturnMostSpecificMatch() {
+        // Given
+        PathPrefixTrie<String> trie = new PathPrefixTrie<>();
+        trie.put("/api", "api");
+        trie.put("/api/users/", "users");
+
+        // When & Then
+        assertEquals("users", trie.findLongestPrefix("/api/users", "none"));
+        assertEquals("users", trie.findLongestPrefix("/api/users/me", "none"));
+        assertEquals("api", trie.findLongestPrefix("/api/events/1", "none"));
+    }
+
+    @Test
+    void findLongestPrefix_ShouldOnlyMatchWholeSegments() {
+        // Given
+        PathPrefixTrie<String> trie = new PathPrefixTrie<>();
+        trie.put("/api/users", "users");
+
+        // When & Then
+        assertEquals("none", trie.findLongestPrefix("/api/usersettings", "none"));
+        assertEquals("none", trie.findLongestPrefix("/health", "none"));
+    }
+}
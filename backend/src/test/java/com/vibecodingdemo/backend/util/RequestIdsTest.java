@@ -0,0 +1,50 @@
+package com.vibecodingdemo.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestIdsTest {
+
+    @Test
+    void generate_ReturnsSixteenHexCharacters() {
+        // When
+        String requestId = RequestIds.generate();
+
+        // Then
+        assertTrue(requestId.matches("[0-9a-f]{16}"), requestId);
+        assertNotEquals(requestId, RequestIds.generate());
+    }
+
+    @Test
+    void sanitizeIncoming_WithSafeValue_ReturnsIt() {
+        // When & Then
+        assertEquals("abc-123_x.y", RequestIds.sanitizeIncoming("abc-123_x.y"));
+    }
+
+    @Test
+    void sanitizeIncoming_WithUnsafeOrOversizedValue_ReturnsNull() {
+        // When & Then
+        assertNull(RequestIds.sanitizeIncoming(null));
+        assertNull(RequestIds.sanitizeIncoming(""));
+        assertNull(RequestIds.sanitizeIncoming("id\r\nX-Injected: 1"));
+        assertNull(RequestIds.sanitizeIncoming("a".repeat(65)));
+    }
+
+    @Test
+    void traceIdFromTraceparent_WithValidHeader_ReturnsTraceId() {
+        // Given
+        String traceparent = "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01";
+
+        // When & Then
+        assertEquals("4bf92f3577b34da6a3ce929d0e0e4736", RequestIds.traceIdFromTraceparent(traceparent));
+    }
+
+    @Test
+    void traceIdFromTraceparent_WithMalformedHeader_ReturnsNull() {
+        // When & Then
+        assertNull(RequestIds.traceIdFromTraceparent(null));
+        assertNull(RequestIds.traceIdFromTraceparent("00-not-a-trace"));
+        assertNull(RequestIds.traceIdFromTraceparent("00-4BF92F3577B34DA6A3CE929D0E0E4736-00f067aa0ba902b7-01"));
+    }
+}